@@ -7,6 +7,7 @@ import (
 	"log"
 	"stomp-load-test/config"
 	"stomp-load-test/metrics"
+	"strconv"
 	"strings"
 	"sync"
 	"sync/atomic"
@@ -24,7 +25,7 @@ type ChatMessage struct {
 	FileUrl   *string `json:"fileUrl"`
 	FileName  *string `json:"fileName"`
 	FileSize  *int64  `json:"fileSize"`
-	CreatedAt string  `json:"createdAt"`
+	CreatedAt any     `json:"createdAt"` // 전송: RFC3339 문자열, 수신: epoch millis 숫자
 }
 
 // PendingMessages tracks sent messages waiting for response
@@ -173,7 +174,9 @@ func ReadLoop(conn *websocket.Conn, cfg *config.Config, workerID int, ctx contex
 			// pending에서 찾아서 latency 계산
 			if sentTimeVal, ok := PendingMessages.LoadAndDelete(messageKey); ok {
 				sentTime := sentTimeVal.(time.Time)
-				latency := float64(time.Since(sentTime).Microseconds()) / 1000.0 // ms
+				receivedTime := time.Now()
+				latency := float64(receivedTime.Sub(sentTime).Microseconds()) / 1000.0 // ms
+				observeSegments(parts[0], sentTime, receivedTime)
 
 				// Prometheus 메트릭 업데이트
 				metrics.MessageLatency.Observe(latency)
@@ -193,6 +196,31 @@ func ReadLoop(conn *websocket.Conn, cfg *config.Config, workerID int, ctx contex
 	}
 }
 
+// observeSegments splits the round trip using the server timestamp headers (epoch ms).
+// 부하 도구와 서버의 시계가 맞지 않으면 client_to_server / broker_to_client 값은 그만큼 치우친다.
+func observeSegments(headerBlock string, sentTime time.Time, receivedTime time.Time) {
+	var serverReceivedAt, serverPublishedAt int64
+	for _, line := range strings.Split(headerBlock, "\n") {
+		key, value, ok := strings.Cut(line, ":")
+		if !ok {
+			continue
+		}
+		switch key {
+		case "serverReceivedAt":
+			serverReceivedAt, _ = strconv.ParseInt(value, 10, 64)
+		case "serverPublishedAt":
+			serverPublishedAt, _ = strconv.ParseInt(value, 10, 64)
+		}
+	}
+	if serverReceivedAt == 0 || serverPublishedAt == 0 {
+		return
+	}
+
+	metrics.LatencySegment.WithLabelValues("client_to_server").Observe(float64(serverReceivedAt - sentTime.UnixMilli()))
+	metrics.LatencySegment.WithLabelValues("server").Observe(float64(serverPublishedAt - serverReceivedAt))
+	metrics.LatencySegment.WithLabelValues("broker_to_client").Observe(float64(receivedTime.UnixMilli() - serverPublishedAt))
+}
+
 // CleanupPendingMessages removes timed-out messages from pending map
 func CleanupPendingMessages(ctx context.Context, timeout time.Duration) {
 	ticker := time.NewTicker(timeout / 2) // 타임아웃의 절반마다 체크
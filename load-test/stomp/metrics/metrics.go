@@ -56,6 +56,13 @@ var (
 		Buckets: []float64{1, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000},
 	})
 
+	// 구간별 지연 시간 (서버가 붙인 serverReceivedAt / serverPublishedAt 헤더 기준, 서버와 시계가 맞아야 의미 있음)
+	LatencySegment = promauto.NewHistogramVec(prometheus.HistogramOpts{
+		Name:    "stomp_message_latency_segment_ms",
+		Help:    "Message latency split by segment (client_to_server, server, broker_to_client) in milliseconds",
+		Buckets: []float64{1, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000},
+	}, []string{"segment"})
+
 	WebSocketConnectTime = promauto.NewHistogram(prometheus.HistogramOpts{
 		Name:    "stomp_websocket_connect_time_ms",
 		Help:    "WebSocket connection time in milliseconds",
@@ -0,0 +1,172 @@
+package com.example.munglogbackend.adapter.security;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AuthorizeUserAspect의 대상 memberId 추출 비용 비교
+ * - legacy*: 매 호출마다 파라미터 어노테이션을 훑고 리플렉션으로 필드를 읽던 이전 방식
+ * - cached*: 메서드별로 캐시된 MemberIdExtractor (맵 조회 + 인덱스 접근/MethodHandle 호출)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AuthorizeUserExtractorBenchmark {
+    private final ConcurrentHashMap<Method, MemberIdExtractor> extractors = new ConcurrentHashMap<>();
+
+    private Method pathVariableMethod;
+    private Method recordBodyMethod;
+    private Method classBodyMethod;
+    private Object[] pathVariableArgs;
+    private Object[] recordBodyArgs;
+    private Object[] classBodyArgs;
+
+    public record RecordBody(Long memberId, String content) {}
+
+    public static class BaseBody {
+        private Long memberId;
+
+        BaseBody(Long memberId) {
+            this.memberId = memberId;
+        }
+    }
+
+    public static class ClassBody extends BaseBody {
+        private String content;
+
+        ClassBody(Long memberId, String content) {
+            super(memberId);
+            this.content = content;
+        }
+    }
+
+    static class SampleController {
+        @AuthorizeUser(sourceType = AuthSourceType.PATH_VARIABLE)
+        void byPath(AuthDetails authDetails, @PathVariable("roomId") Long roomId, @PathVariable("memberId") Long memberId) {}
+
+        @AuthorizeUser(sourceType = AuthSourceType.REQUEST_BODY)
+        void byRecordBody(AuthDetails authDetails, @RequestBody RecordBody body) {}
+
+        @AuthorizeUser(sourceType = AuthSourceType.REQUEST_BODY)
+        void byClassBody(AuthDetails authDetails, @RequestBody ClassBody body) {}
+    }
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        pathVariableMethod = SampleController.class.getDeclaredMethod("byPath", AuthDetails.class, Long.class, Long.class);
+        recordBodyMethod = SampleController.class.getDeclaredMethod("byRecordBody", AuthDetails.class, RecordBody.class);
+        classBodyMethod = SampleController.class.getDeclaredMethod("byClassBody", AuthDetails.class, ClassBody.class);
+
+        AuthDetails authDetails = new AuthDetails(7L, null);
+        pathVariableArgs = new Object[]{authDetails, 42L, 7L};
+        recordBodyArgs = new Object[]{authDetails, new RecordBody(7L, "hello")};
+        classBodyArgs = new Object[]{authDetails, new ClassBody(7L, "hello")};
+    }
+
+    @Benchmark
+    public Long legacyPathVariable() {
+        return LegacyExtractor.fromPathVariable(pathVariableMethod, pathVariableArgs, "memberId");
+    }
+
+    @Benchmark
+    public Long cachedPathVariable() {
+        return cached(pathVariableMethod).extract(pathVariableArgs);
+    }
+
+    @Benchmark
+    public Long legacyRecordBody() {
+        return LegacyExtractor.fromRequestBody(recordBodyArgs, "memberId");
+    }
+
+    @Benchmark
+    public Long cachedRecordBody() {
+        return cached(recordBodyMethod).extract(recordBodyArgs);
+    }
+
+    @Benchmark
+    public Long legacyClassBody() {
+        return LegacyExtractor.fromRequestBody(classBodyArgs, "memberId");
+    }
+
+    @Benchmark
+    public Long cachedClassBody() {
+        return cached(classBodyMethod).extract(classBodyArgs);
+    }
+
+    private MemberIdExtractor cached(Method method) {
+        return extractors.computeIfAbsent(method,
+                m -> MemberIdExtractor.resolve(m, m.getAnnotation(AuthorizeUser.class)));
+    }
+
+    /**
+     * 변경 전 AuthorizeUserAspect의 추출 로직 (비교용 사본)
+     * 첫 번째 인자(AuthDetails)는 건너뛴다. 지금의 AuthDetails에는 memberId 필드가 있어
+     * 이전 로직으로는 본문 대신 인증 주체의 값을 읽게 되기 때문이다.
+     */
+    static final class LegacyExtractor {
+        static Long fromPathVariable(Method method, Object[] args, String paramName) {
+            Parameter[] parameters = method.getParameters();
+            for (int i = 0; i < parameters.length; i++) {
+                PathVariable pathVariable = parameters[i].getAnnotation(PathVariable.class);
+                if (pathVariable != null) {
+                    String name = pathVariable.value().isEmpty() ? parameters[i].getName() : pathVariable.value();
+                    if (name.equals(paramName) && args[i] instanceof Long) {
+                        return (Long) args[i];
+                    }
+                }
+            }
+            return null;
+        }
+
+        static Long fromRequestBody(Object[] args, String fieldName) {
+            for (int i = 1; i < args.length; i++) {
+                Object arg = args[i];
+                if (arg != null && !isSimpleType(arg.getClass())) {
+                    try {
+                        Field field = findField(arg.getClass(), fieldName);
+                        if (field != null) {
+                            field.setAccessible(true);
+                            Object value = field.get(arg);
+                            if (value instanceof Long) {
+                                return (Long) value;
+                            } else if (value instanceof Number) {
+                                return ((Number) value).longValue();
+                            } else if (value instanceof String) {
+                                return Long.parseLong((String) value);
+                            }
+                        }
+                    } catch (Exception e) {
+                        // 필드 접근 실패시 무시
+                    }
+                }
+            }
+            return null;
+        }
+
+        private static Field findField(Class<?> clazz, String fieldName) {
+            try {
+                return clazz.getDeclaredField(fieldName);
+            } catch (NoSuchFieldException e) {
+                Class<?> superClass = clazz.getSuperclass();
+                if (superClass != null) {
+                    return findField(superClass, fieldName);
+                }
+                return null;
+            }
+        }
+
+        private static boolean isSimpleType(Class<?> clazz) {
+            return clazz.isPrimitive() ||
+                    clazz.equals(String.class) ||
+                    Number.class.isAssignableFrom(clazz) ||
+                    Boolean.class.equals(clazz);
+        }
+    }
+}
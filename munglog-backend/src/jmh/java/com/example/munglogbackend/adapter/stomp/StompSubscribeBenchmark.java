@@ -0,0 +1,84 @@
+package com.example.munglogbackend.adapter.stomp;
+
+import com.example.munglogbackend.application.chat.provided.ChatParticipantFinder;
+import com.example.munglogbackend.application.security.TokenProvider;
+import com.example.munglogbackend.config.monitoring.CacheMetricsConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StompHandler.preSend의 SUBSCRIBE 처리 비용 (헤더 래핑 + destination 파싱 + 권한 확인)
+ * 토큰 검증과 참가자 확인은 즉시 응답하는 스텁으로 대체해 핸들러 자체 비용만 측정한다.
+ * - 세션 속성에 CONNECT 때의 인증 정보가 있는 상태(재구독)를 기준으로 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StompSubscribeBenchmark {
+    private StompHandler stompHandler;
+    private Message<byte[]> personalSubscribe;
+    private Message<byte[]> roomSubscribe;
+
+    @Setup
+    public void setUp() {
+        Authentication authentication = new UsernamePasswordAuthenticationToken("7", null, List.of());
+        TokenProvider tokenProvider = stub(TokenProvider.class, "getAuthentication", authentication);
+        ChatParticipantFinder chatParticipantFinder = stub(ChatParticipantFinder.class, "isRoomMember", true);
+
+        // 명단 무효화 리스너는 @PostConstruct에서만 쓰이므로 ChatRosterCache 없이 만든다.
+        StompSessionAclCache sessionAclCache =
+                new StompSessionAclCache(null, new CacheMetricsConfig(new SimpleMeterRegistry()));
+        sessionAclCache.open("session-0");
+
+        stompHandler = new StompHandler(chatParticipantFinder, tokenProvider, sessionAclCache);
+        Map<String, Object> sessionAttributes = new HashMap<>();
+        sessionAttributes.put("AUTH", authentication);
+        personalSubscribe = subscribe("/topic/user.7.room-summary", sessionAttributes);
+        roomSubscribe = subscribe("/topic/chat.room.42", sessionAttributes);
+    }
+
+    @Benchmark
+    public Message<?> subscribePersonalTopic() {
+        return stompHandler.preSend(personalSubscribe, null);
+    }
+
+    @Benchmark
+    public Message<?> subscribeRoomTopic() {
+        return stompHandler.preSend(roomSubscribe, null);
+    }
+
+    private static Message<byte[]> subscribe(String destination, Map<String, Object> sessionAttributes) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination(destination);
+        accessor.setSubscriptionId("sub-0");
+        accessor.setSessionId("session-0");
+        accessor.setSessionAttributes(sessionAttributes);
+        accessor.setNativeHeader("Authorization", "Bearer benchmark-token");
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    /**
+     * 지정한 메서드만 고정 값을 돌려주는 인터페이스 스텁
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, String methodName, Object result) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getName().equals(methodName)) {
+                return result;
+            }
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+}
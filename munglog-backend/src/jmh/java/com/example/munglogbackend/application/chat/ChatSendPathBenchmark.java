@@ -0,0 +1,189 @@
+package com.example.munglogbackend.application.chat;
+
+import com.example.munglogbackend.application.chat.dto.ChatMessageDto;
+import com.example.munglogbackend.application.chat.dto.ChatMessageFrame;
+import com.example.munglogbackend.application.chat.dto.ChatRoomSummary;
+import com.example.munglogbackend.application.chat.fanout.ChatBroadcastEncoder;
+import com.example.munglogbackend.application.chat.fanout.RoomSummaryTemplate;
+import com.example.munglogbackend.application.chat.fanout.WireFormat;
+import com.example.munglogbackend.domain.chat.entity.ChatMessage;
+import com.example.munglogbackend.domain.chat.enumerate.ChatRoomType;
+import com.example.munglogbackend.domain.chat.enumerate.MessageType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메시지 전송 경로에서 매 메시지마다 실행되는 순수 연산 벤치마크
+ * - ChatMessage.create (검증 포함), ChatMessageDto.fromEntity
+ * - 브로드캐스트 payload: 기존 Map 기반(legacy*)과 ChatMessageFrame + 전용 직렬화기(frame*) 비교
+ * - 채팅방 요약의 Jackson 직렬화
+ * - 요약 템플릿: 참가자 수(participants)만큼 요약을 만드는 비용을 참가자별 직렬화와 비교
+ * - 인코딩: 같은 frame / 요약 템플릿의 JSON과 CBOR 비교 (cbor*)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ChatSendPathBenchmark {
+    // Spring Boot 기본 설정과 같게 날짜를 ISO 문자열로 쓴다. (기존 Map payload의 createdAt 형식)
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final ChatBroadcastEncoder broadcastEncoder = new ChatBroadcastEncoder(objectMapper);
+
+    @Param({"2", "50"})
+    private int participants;
+
+    private ChatMessageDto textRequest;
+    private ChatMessageDto fileRequest;
+    private ChatMessage textMessage;
+    private Map<String, Object> payload;
+    private ChatMessageFrame frame;
+    private ChatRoomSummary summary;
+    private RoomSummaryTemplate summaryTemplate;
+    private RoomSummaryTemplate cborSummaryTemplate;
+    private Instant createdAt;
+
+    @Setup
+    public void setUp() {
+        createdAt = Instant.parse("2025-01-01T00:00:00Z");
+        textRequest = new ChatMessageDto(42L, 7L, MessageType.TEXT, "안녕하세요, 오늘 봉사 일정 확인 부탁드립니다.",
+                null, null, null, null);
+        fileRequest = new ChatMessageDto(42L, 7L, MessageType.IMAGE, null,
+                "https://cdn.example.com/chat/42/image.png", "image.png", 204_800L, null);
+        textMessage = ChatMessage.create(textRequest, 1_234L, 42L, 7L, createdAt);
+        payload = legacyPayload(textMessage);
+        frame = ChatMessageFrame.from(textMessage);
+        summary = new ChatRoomSummary(42L, 3L, ChatRoomType.GROUP, textRequest.content(),
+                createdAt.toEpochMilli());
+        summaryTemplate = broadcastEncoder.summaryTemplate(WireFormat.JSON, summary);
+        cborSummaryTemplate = broadcastEncoder.summaryTemplate(WireFormat.CBOR, summary);
+    }
+
+    @Benchmark
+    public ChatMessage createTextMessage() {
+        return ChatMessage.create(textRequest, 1_234L, 42L, 7L, createdAt);
+    }
+
+    @Benchmark
+    public ChatMessage createFileMessage() {
+        return ChatMessage.create(fileRequest, 1_235L, 42L, 7L, createdAt);
+    }
+
+    @Benchmark
+    public ChatMessageDto fromEntity() {
+        return ChatMessageDto.fromEntity(textMessage);
+    }
+
+    @Benchmark
+    public Map<String, Object> legacyBuildPayload() {
+        return legacyPayload(textMessage);
+    }
+
+    @Benchmark
+    public byte[] legacySerializePayload() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(payload);
+    }
+
+    /**
+     * 기존 브로드캐스트 경로 전체: Map 생성 + 직렬화
+     */
+    @Benchmark
+    public byte[] legacyBuildAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(legacyPayload(textMessage));
+    }
+
+    @Benchmark
+    public ChatMessageFrame frameBuild() {
+        return ChatMessageFrame.from(textMessage);
+    }
+
+    @Benchmark
+    public byte[] frameSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(frame);
+    }
+
+    /**
+     * 변경된 브로드캐스트 경로 전체: 프레임 생성 + 전용 직렬화기
+     */
+    @Benchmark
+    public byte[] frameBuildAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(ChatMessageFrame.from(textMessage));
+    }
+
+    @Benchmark
+    public byte[] serializeRoomSummary() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(summary);
+    }
+
+    @Benchmark
+    public byte[] renderRoomSummary() {
+        return summaryTemplate.render(3L);
+    }
+
+    @Benchmark
+    public byte[] cborSerializeFrame() {
+        return broadcastEncoder.encode(WireFormat.CBOR, frame);
+    }
+
+    @Benchmark
+    public byte[] cborRenderRoomSummary() {
+        return cborSummaryTemplate.render(3L);
+    }
+
+    /**
+     * 기존 방식: 참가자마다 ChatRoomSummary를 만들어 직렬화
+     */
+    @Benchmark
+    public int serializeRoomSummaryPerParticipant() throws JsonProcessingException {
+        int bytes = 0;
+        for (int i = 0; i < participants; i++) {
+            bytes += objectMapper.writeValueAsBytes(new ChatRoomSummary(summary.roomId(), i, summary.chatRoomType(),
+                    summary.lastMessagePreview(), summary.lastMessageAt())).length;
+        }
+        return bytes;
+    }
+
+    /**
+     * 템플릿 방식: 메시지당 한 번 직렬화하고 참가자마다 숫자만 끼워 넣기
+     */
+    @Benchmark
+    public int renderRoomSummaryPerParticipant() {
+        RoomSummaryTemplate template = broadcastEncoder.summaryTemplate(WireFormat.JSON, summary);
+        int bytes = 0;
+        for (int i = 0; i < participants; i++) {
+            bytes += template.render(i).length;
+        }
+        return bytes;
+    }
+
+    /**
+     * ChatMessageFrame 도입 전 ChatModifyService.toPayload와 같은 Map 기반 payload
+     */
+    private static Map<String, Object> legacyPayload(ChatMessage m) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("roomId", m.getRoomId());
+        payload.put("senderId", m.getSenderId());
+        payload.put("type", m.getType().name());
+        payload.put("seq", m.getSeq());
+        payload.put("createdAt", m.getCreatedAt());
+        if (m.getContent() != null && !m.getContent().isBlank()) {
+            payload.put("content", m.getContent());
+        }
+        if (m.getFileUrl() != null && !m.getFileUrl().isBlank()) {
+            payload.put("fileUrl", m.getFileUrl());
+        }
+        if (m.getFileName() != null && !m.getFileName().isBlank()) {
+            payload.put("fileName", m.getFileName());
+        }
+        if (m.getFileSize() != null) {
+            payload.put("fileSize", m.getFileSize());
+        }
+        return payload;
+    }
+}
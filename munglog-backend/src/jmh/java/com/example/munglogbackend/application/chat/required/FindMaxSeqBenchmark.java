@@ -0,0 +1,68 @@
+package com.example.munglogbackend.application.chat.required;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ChatMessageRepositoryImpl.findMaxSeqForRoomIds의 키 생성 + 결과 조립 비용
+ * Redis MGET은 미리 만들어 둔 응답을 돌려주는 메모리 스텁으로 대체한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FindMaxSeqBenchmark {
+    @Param({"20", "100", "1000"})
+    private int roomCount;
+
+    private ChatMessageRepositoryImpl repository;
+    private List<Long> roomIds;
+
+    @Setup
+    public void setUp() {
+        roomIds = new ArrayList<>(roomCount);
+        List<String> values = new ArrayList<>(roomCount);
+        for (int i = 0; i < roomCount; i++) {
+            roomIds.add((long) i + 1);
+            // 일부 방은 메시지가 없는 경우(null)를 섞는다.
+            values.add(i % 10 == 0 ? null : String.valueOf(1_000L + i));
+        }
+        repository = new ChatMessageRepositoryImpl(new StubStringRedisTemplate(values));
+    }
+
+    @Benchmark
+    public Map<Long, Long> findMaxSeqForRoomIds() {
+        return repository.findMaxSeqForRoomIds(roomIds);
+    }
+
+    /**
+     * opsForValue().multiGet만 지원하는 StringRedisTemplate 스텁
+     */
+    static final class StubStringRedisTemplate extends StringRedisTemplate {
+        private final ValueOperations<String, String> valueOperations;
+
+        @SuppressWarnings("unchecked")
+        StubStringRedisTemplate(List<String> multiGetResult) {
+            this.valueOperations = (ValueOperations<String, String>) Proxy.newProxyInstance(
+                    ValueOperations.class.getClassLoader(),
+                    new Class<?>[]{ValueOperations.class},
+                    (proxy, method, args) -> {
+                        if ("multiGet".equals(method.getName())) {
+                            return multiGetResult;
+                        }
+                        throw new UnsupportedOperationException(method.getName());
+                    });
+        }
+
+        @Override
+        public ValueOperations<String, String> opsForValue() {
+            return valueOperations;
+        }
+    }
+}
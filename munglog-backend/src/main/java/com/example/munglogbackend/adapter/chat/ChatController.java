@@ -5,11 +5,15 @@ import com.example.munglogbackend.application.chat.provided.ChatMessageFinder;
 import com.example.munglogbackend.application.chat.provided.ChatParticipantFinder;
 import com.example.munglogbackend.application.chat.provided.ChatRoomFinder;
 import com.example.munglogbackend.application.chat.provided.ChatSaver;
-import com.example.munglogbackend.application.chat.dto.ChatMessageDto;
+import com.example.munglogbackend.application.chat.dto.ChatHistoryRequest;
+import com.example.munglogbackend.application.chat.dto.ChatMessageFrame;
+import com.example.munglogbackend.application.chat.dto.ChatRoomHistory;
 import com.example.munglogbackend.application.chat.dto.ChatRoomSummary;
+import com.example.munglogbackend.application.chat.dto.CursorSlice;
 import com.example.munglogbackend.domain.global.apiPayload.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Slice;
@@ -83,13 +87,16 @@ public class ChatController {
     @Operation(summary = "전체 채팅방 목록을 조회한다.", description = """
     ## 채팅방 목록 전체를 조회한다.
     - 그룹 채팅방만 조회가 가능하다.
+    - 최근 메시지 순으로 limit개씩 조회하며, 다음 페이지는 응답의 nextCursor를 before로 넘긴다.
     """
     )
     @GetMapping("/rooms")
-    public ApiResponse<List<ChatRoomSummary>> getGroupChatRooms(
-            @AuthenticationPrincipal AuthDetails authDetails
+    public ApiResponse<CursorSlice<ChatRoomSummary>> getGroupChatRooms(
+            @AuthenticationPrincipal AuthDetails authDetails,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) String before
     ) {
-        return ApiResponse.success(chatRoomFinder.findGroupChatRooms(authDetails.getMemberId()));
+        return ApiResponse.success(chatRoomFinder.findGroupChatRooms(authDetails.getMemberId(), limit, before));
     }
 
     // 내 채팅방 목록 조회 : roomId, roomName, 그룹채팅여부, 메시지읽음개수
@@ -97,11 +104,14 @@ public class ChatController {
     ## 나의 채팅방 목록을 조횝합니다.
     - 내가 속해있는 채팅방 목록을 조회힙니다.
     - 각 채팅방마다 roomId, roomName, 그룹채팅 여부, 메시지 읽음 개수를 반환받습니다.
+    - 최신 메시지 순으로 limit개씩 조회하며, 다음 페이지는 응답의 nextCursor를 before로 넘깁니다.
     """)
     @GetMapping("/rooms/me")
-    public ApiResponse<List<ChatRoomSummary>> getMyChatRooms(
-            @AuthenticationPrincipal AuthDetails authDetails) {
-        return ApiResponse.success(chatRoomFinder.findRoomsByMember(authDetails.getMemberId()));
+    public ApiResponse<CursorSlice<ChatRoomSummary>> getMyChatRooms(
+            @AuthenticationPrincipal AuthDetails authDetails,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) String before) {
+        return ApiResponse.success(chatRoomFinder.findRoomsByMember(authDetails.getMemberId(), limit, before));
     }
 
     // 메시지 조회
@@ -110,7 +120,7 @@ public class ChatController {
     - 기본으로 최근 50개를 조회합니다.
     """)
     @GetMapping("/rooms/{roomId}/messages")
-    public ApiResponse<Slice<ChatMessageDto>> getMessages(
+    public ApiResponse<Slice<ChatMessageFrame>> getMessages(
             @PathVariable Long roomId,
             @RequestParam(required = false) Long beforeSeq,
             @RequestParam(defaultValue = "50") int size,
@@ -119,6 +129,23 @@ public class ChatController {
         return ApiResponse.success(chatMessageFinder.fetchMessagesBeforeSeq(roomId, beforeSeq, size, authDetails.getMemberId()));
     }
 
+    // 여러 채팅방 메시지 일괄 조회 (앱 시작 시 보이는 방들의 메시지를 한 번에 불러온다)
+    @Operation(summary = "여러 채팅방 메시지 일괄 조회", description = """
+    ## 여러 채팅방의 메시지를 한 번에 조회합니다.
+    - 채팅방마다 roomId, beforeSeq(선택), size(선택, 기본 50 / 최대 100)를 보냅니다.
+    - 한 번에 최대 20개 채팅방까지 조회할 수 있습니다.
+    - 하나라도 속하지 않은 채팅방이 있으면 전체 요청이 거부됩니다.
+    - 결과는 요청 순서대로, 채팅방마다 오래된 → 최신 순 메시지와 hasNext를 반환합니다.
+    """)
+    @PostMapping("/rooms/messages/batch")
+    public ApiResponse<List<ChatRoomHistory>> getMessagesBatch(
+            @AuthenticationPrincipal AuthDetails authDetails,
+            @RequestBody @Size(min = 1, max = 20, message = "한 번에 1~20개 채팅방까지 조회할 수 있습니다")
+            List<@Valid ChatHistoryRequest> requests
+    ) {
+        return ApiResponse.success(chatMessageFinder.fetchMessagesBeforeSeq(requests, authDetails.getMemberId()));
+    }
+
     // 채팅 메시지 읽음 처리
     @Operation(summary = "채팅 메시지 읽음 처리", description = """
     ## 채팅 메시지를 읽음 처리합니다.
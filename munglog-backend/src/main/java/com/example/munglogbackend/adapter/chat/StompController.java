@@ -2,6 +2,7 @@ package com.example.munglogbackend.adapter.chat;
 
 import com.example.munglogbackend.application.chat.provided.ChatSaver;
 import com.example.munglogbackend.application.chat.dto.ChatMessageDto;
+import com.example.munglogbackend.config.monitoring.MessageTimerType;
 import com.example.munglogbackend.config.monitoring.WebSocketMetricsConfig;
 import com.example.munglogbackend.domain.chat.exception.ChatErrorType;
 import com.example.munglogbackend.domain.chat.exception.ChatException;
@@ -33,7 +34,7 @@ public class StompController {
 
         } finally {
             // 메시지 처리 시간 측정 종료
-            metricsConfig.stopTimer(sample, "stomp_receive");
+            metricsConfig.stopTimer(sample, MessageTimerType.STOMP_RECEIVE);
         }
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.example.munglogbackend.adapter.security;
 
 import com.example.munglogbackend.domain.member.Member;
+import com.example.munglogbackend.domain.member.enumerate.MemberRole;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -8,19 +9,31 @@ import org.springframework.security.core.userdetails.UserDetails;
 import java.util.Collection;
 import java.util.Collections;
 
+/**
+ * 인증된 회원의 principal
+ * - 엔티티 대신 memberId와 역할만 보관하므로 JWT 클레임만으로도 만들 수 있다.
+ */
 public class AuthDetails implements UserDetails {
 
-    private final Member member;
+    private final Long memberId;
+    private final MemberRole role;
 
     public AuthDetails(Member member) {
-        this.member = member;
+        this(member.getId(), member.getRole());
     }
 
-    public Long getMemberId() {return member.getId();}
+    public AuthDetails(Long memberId, MemberRole role) {
+        this.memberId = memberId;
+        this.role = role;
+    }
+
+    public Long getMemberId() {return memberId;}
+
+    public MemberRole getRole() {return role;}
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return Collections.singletonList(new SimpleGrantedAuthority(member.getRole().name()));
+        return Collections.singletonList(new SimpleGrantedAuthority(role.name()));
     }
 
     @Override
@@ -30,7 +43,7 @@ public class AuthDetails implements UserDetails {
 
     @Override
     public String getUsername() {
-        return String.valueOf(member.getId());
+        return String.valueOf(memberId);
     }
 
     @Override
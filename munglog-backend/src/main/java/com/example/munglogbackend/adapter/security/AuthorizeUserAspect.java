@@ -2,7 +2,6 @@ package com.example.munglogbackend.adapter.security;
 
 import com.example.munglogbackend.domain.member.exception.AuthErrorType;
 import com.example.munglogbackend.domain.member.exception.AuthException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
@@ -10,16 +9,18 @@ import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestParam;
 
 import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * @AuthorizeUser 메서드의 대상 memberId가 인증된 회원과 같은지 확인한다.
+ * - 대상 memberId를 꺼내는 방법(MemberIdExtractor)은 메서드마다 처음 호출될 때 한 번만 만들어 캐시한다.
+ */
 @Aspect
 @Component
 public class AuthorizeUserAspect {
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ConcurrentHashMap<Method, MemberIdExtractor> extractors = new ConcurrentHashMap<>();
 
     @Before("@annotation(authorizeUser)")
     public void authorizeUser(JoinPoint joinPoint, AuthorizeUser authorizeUser) {
@@ -29,22 +30,11 @@ public class AuthorizeUserAspect {
             return;
         }
 
-        Long authMemberId = authDetails.getMemberId();
-        Long targetMemberId = null;
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        MemberIdExtractor extractor = extractors.computeIfAbsent(method, m -> MemberIdExtractor.resolve(m, authorizeUser));
+        Long targetMemberId = extractor.extract(joinPoint.getArgs());
 
-        switch (authorizeUser.sourceType()) {
-            case PATH_VARIABLE:
-                targetMemberId = extractFromPathVariable(joinPoint, authorizeUser.paramName());
-                break;
-            case REQUEST_PARAM:
-                targetMemberId = extractFromRequestParam(joinPoint, authorizeUser.paramName());
-                break;
-            case REQUEST_BODY:
-                targetMemberId = extractFromRequestBody(joinPoint, authorizeUser.fieldName());
-                break;
-        }
-
-        if (targetMemberId != null && !authMemberId.equals(targetMemberId)) {
+        if (targetMemberId != null && !authDetails.getMemberId().equals(targetMemberId)) {
             throw new AuthException(AuthErrorType.UNAUTHORIZED_MEMBER_ACCESS);
         }
     }
@@ -69,98 +59,4 @@ public class AuthorizeUserAspect {
 
         return null;
     }
-
-    /**
-     * PathVariable에서 memberId 추출
-     */
-    private Long extractFromPathVariable(JoinPoint joinPoint, String paramName) {
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        Method method = signature.getMethod();
-        Parameter[] parameters = method.getParameters();
-        Object[] args = joinPoint.getArgs();
-
-        for (int i = 0; i < parameters.length; i++) {
-            PathVariable pathVariable = parameters[i].getAnnotation(PathVariable.class);
-            if (pathVariable != null) {
-                String name = pathVariable.value().isEmpty() ? parameters[i].getName() : pathVariable.value();
-                if (name.equals(paramName) && args[i] instanceof Long) {
-                    return (Long) args[i];
-                }
-            }
-        }
-
-        return null;
-    }
-
-    /**
-     * RequestParam에서 memberId 추출
-     */
-    private Long extractFromRequestParam(JoinPoint joinPoint, String paramName) {
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        Method method = signature.getMethod();
-        Parameter[] parameters = method.getParameters();
-        Object[] args = joinPoint.getArgs();
-
-        for (int i = 0; i < parameters.length; i++) {
-            RequestParam requestParam = parameters[i].getAnnotation(RequestParam.class);
-            if (requestParam != null) {
-                String name = requestParam.value().isEmpty() ? parameters[i].getName() : requestParam.value();
-                if (name.equals(paramName) && args[i] instanceof Long) {
-                    return (Long) args[i];
-                }
-            }
-        }
-
-        return null;
-    }
-
-    /**
-     * RequestBody에서 memberId 필드 추출
-     */
-    private Long extractFromRequestBody(JoinPoint joinPoint, String fieldName) {
-        Object[] args = joinPoint.getArgs();
-
-        for (Object arg : args) {
-            if (arg != null && !isSimpleType(arg.getClass())) {
-                try {
-                    // 필드 접근 시도
-                    java.lang.reflect.Field field = findField(arg.getClass(), fieldName);
-                    if (field != null) {
-                        field.setAccessible(true);
-                        Object value = field.get(arg);
-                        if (value instanceof Long) {
-                            return (Long) value;
-                        } else if (value instanceof Number) {
-                            return ((Number) value).longValue();
-                        } else if (value instanceof String) {
-                            return Long.parseLong((String) value);
-                        }
-                    }
-                } catch (Exception e) {
-                    // 필드 접근 실패시 무시
-                }
-            }
-        }
-
-        return null;
-    }
-
-    private java.lang.reflect.Field findField(Class<?> clazz, String fieldName) {
-        try {
-            return clazz.getDeclaredField(fieldName);
-        } catch (NoSuchFieldException e) {
-            Class<?> superClass = clazz.getSuperclass();
-            if (superClass != null) {
-                return findField(superClass, fieldName);
-            }
-            return null;
-        }
-    }
-
-    private boolean isSimpleType(Class<?> clazz) {
-        return clazz.isPrimitive() ||
-                clazz.equals(String.class) ||
-                Number.class.isAssignableFrom(clazz) ||
-                Boolean.class.equals(clazz);
-    }
-}
\ No newline at end of file
+}
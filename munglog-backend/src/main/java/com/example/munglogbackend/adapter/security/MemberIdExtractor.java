@@ -0,0 +1,159 @@
+package com.example.munglogbackend.adapter.security;
+
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.RecordComponent;
+
+/**
+ * @AuthorizeUser가 붙은 메서드의 인자에서 대상 memberId를 꺼내는 함수
+ * - 메서드마다 한 번만 resolve하여 인자 위치와 접근자(MethodHandle)를 미리 찾아 둔다.
+ * - 호출 시에는 배열 인덱스 접근과 MethodHandle 호출만 수행한다.
+ */
+@FunctionalInterface
+interface MemberIdExtractor {
+    MemberIdExtractor NONE = args -> null;
+
+    MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    Long extract(Object[] args);
+
+    static MemberIdExtractor resolve(Method method, AuthorizeUser authorizeUser) {
+        return switch (authorizeUser.sourceType()) {
+            case PATH_VARIABLE -> argument(indexOfPathVariable(method, authorizeUser.paramName()));
+            case REQUEST_PARAM -> argument(indexOfRequestParam(method, authorizeUser.paramName()));
+            case REQUEST_BODY -> bodyField(method, authorizeUser.fieldName());
+            case NONE -> NONE;
+        };
+    }
+
+    /**
+     * index 위치의 Long 인자를 그대로 반환
+     */
+    private static MemberIdExtractor argument(int index) {
+        if (index < 0) {
+            return NONE;
+        }
+        return args -> args[index] instanceof Long value ? value : null;
+    }
+
+    private static int indexOfPathVariable(Method method, String paramName) {
+        Parameter[] parameters = method.getParameters();
+        for (int i = 0; i < parameters.length; i++) {
+            PathVariable pathVariable = parameters[i].getAnnotation(PathVariable.class);
+            if (pathVariable != null) {
+                String name = pathVariable.value().isEmpty() ? parameters[i].getName() : pathVariable.value();
+                if (name.equals(paramName)) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static int indexOfRequestParam(Method method, String paramName) {
+        Parameter[] parameters = method.getParameters();
+        for (int i = 0; i < parameters.length; i++) {
+            RequestParam requestParam = parameters[i].getAnnotation(RequestParam.class);
+            if (requestParam != null) {
+                String name = requestParam.value().isEmpty() ? parameters[i].getName() : requestParam.value();
+                if (name.equals(paramName)) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 요청 본문 객체의 fieldName 값을 꺼낸다.
+     * 선언 타입이 단순 타입이 아닌 첫 번째 인자 중 해당 필드(레코드면 컴포넌트)가 있는 인자를 사용한다.
+     * 인증 주체(AuthDetails)는 자기 자신과 비교하게 되므로 대상에서 제외한다.
+     */
+    private static MemberIdExtractor bodyField(Method method, String fieldName) {
+        Class<?>[] types = method.getParameterTypes();
+        for (int i = 0; i < types.length; i++) {
+            if (isSimpleType(types[i]) || AuthDetails.class.isAssignableFrom(types[i])) {
+                continue;
+            }
+
+            MethodHandle getter = findGetter(types[i], fieldName);
+            if (getter != null) {
+                int index = i;
+                return args -> {
+                    Object body = args[index];
+                    if (body == null) {
+                        return null;
+                    }
+                    try {
+                        return toLong((Object) getter.invokeExact(body));
+                    } catch (Throwable e) {
+                        // 값을 읽거나 변환하지 못하면 검사 대상 없음으로 본다.
+                        return null;
+                    }
+                };
+            }
+        }
+        return NONE;
+    }
+
+    private static MethodHandle findGetter(Class<?> type, String fieldName) {
+        try {
+            if (type.isRecord()) {
+                for (RecordComponent component : type.getRecordComponents()) {
+                    if (component.getName().equals(fieldName)) {
+                        return MethodHandles.privateLookupIn(type, MethodHandles.lookup())
+                                .unreflect(component.getAccessor())
+                                .asType(GETTER_TYPE);
+                    }
+                }
+                return null;
+            }
+
+            Field field = findField(type, fieldName);
+            if (field == null) {
+                return null;
+            }
+            return MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup())
+                    .unreflectGetter(field)
+                    .asType(GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static Field findField(Class<?> clazz, String fieldName) {
+        for (Class<?> c = clazz; c != null; c = c.getSuperclass()) {
+            try {
+                return c.getDeclaredField(fieldName);
+            } catch (NoSuchFieldException ignored) {
+                // 상위 클래스에서 계속 찾는다.
+            }
+        }
+        return null;
+    }
+
+    private static Long toLong(Object value) {
+        if (value instanceof Long longValue) {
+            return longValue;
+        } else if (value instanceof Number number) {
+            return number.longValue();
+        } else if (value instanceof String string) {
+            return Long.parseLong(string);
+        }
+        return null;
+    }
+
+    private static boolean isSimpleType(Class<?> clazz) {
+        return clazz.isPrimitive() ||
+                clazz.equals(String.class) ||
+                Number.class.isAssignableFrom(clazz) ||
+                Boolean.class.equals(clazz);
+    }
+}
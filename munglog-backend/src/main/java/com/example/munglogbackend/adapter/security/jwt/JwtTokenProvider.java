@@ -1,9 +1,15 @@
 package com.example.munglogbackend.adapter.security.jwt;
 
+import com.example.munglogbackend.adapter.security.AuthDetails;
+import com.example.munglogbackend.application.member.cache.ActiveMemberCache;
 import com.example.munglogbackend.application.security.TokenProvider;
+import com.example.munglogbackend.domain.member.enumerate.MemberRole;
 import com.example.munglogbackend.domain.member.exception.AuthErrorType;
 import com.example.munglogbackend.domain.member.exception.AuthException;
 import io.jsonwebtoken.*;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -12,12 +18,26 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.SecretKey;
 import java.util.Date;
 
+/**
+ * JWT 발급/검증
+ * - 서명 키와 JwtParser는 시작 시 한 번만 만들고 모든 요청에서 재사용한다.
+ * - Access Token에는 memberId(subject)와 역할(role 클레임)을 담는다.
+ * - stateless 모드에서는 토큰을 한 번만 파싱해 클레임으로 principal을 만들고,
+ *   탈퇴 여부만 ActiveMemberCache를 통해 확인한다.
+ * - role 클레임이 없는 이전 토큰이거나 stateless 모드가 꺼져 있으면 기존처럼 DB에서 회원을 읽는다.
+ * - 검증된 토큰은 VerifiedTokenCache에 exp까지 보관해 같은 토큰의 재검증을 생략한다.
+ */
 @Component
 @RequiredArgsConstructor
 public class JwtTokenProvider implements TokenProvider {
+    private static final String ROLE_CLAIM = "role";
+
     private final UserDetailsService userDetailsService;
+    private final ActiveMemberCache activeMemberCache;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Value("${jwt.secret}")
     private String SECRETKEY;
@@ -28,30 +48,40 @@ public class JwtTokenProvider implements TokenProvider {
     @Value("${jwt.token.refresh-expiration-time}")
     private long refreshTokenExpiration;
 
+    @Value("${auth.jwt.stateless:true}")
+    private boolean stateless;
+
+    @Value("${auth.jwt.active-check:true}")
+    private boolean activeCheck;
+
+    private SecretKey secretKey;
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    void init() {
+        secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRETKEY));
+        jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+    }
+
     @Override
-    public String createAccessToken(Long memberId) {
-        return createToken(memberId, accessTokenExpiration);
+    public String createAccessToken(Long memberId, MemberRole role) {
+        return tokenBuilder(memberId, accessTokenExpiration)
+                .claim(ROLE_CLAIM, role.name())
+                .compact();
     }
 
     @Override
     public String createRefreshToken(Long memberId) {
-        return createToken(memberId, refreshTokenExpiration);
+        return tokenBuilder(memberId, refreshTokenExpiration).compact();
     }
 
     @Override
     public Long parseRefreshToken(String refreshToken) {
         try {
-            Claims claims = Jwts.parser()
-                    .setSigningKey(SECRETKEY)
-                    .build()
-                    .parseClaimsJws(refreshToken)
-                    .getBody();
-
-            // 토큰이 만료되었거나 서명이 잘못된 경우 예외 발생
-            if (claims.getExpiration().before(new Date())) {
-                throw new AuthException(AuthErrorType.INVALID_REFRESH_TOKEN);
-            }
-            return Long.valueOf(claims.getSubject());
+            // 만료되었거나 서명이 잘못된 경우 파서가 예외를 던진다.
+            return Long.valueOf(parseClaims(refreshToken).getSubject());
         } catch (JwtException | IllegalArgumentException e) {
             throw new AuthException(AuthErrorType.INVALID_REFRESH_TOKEN);
         }
@@ -69,51 +99,70 @@ public class JwtTokenProvider implements TokenProvider {
 
     @Override
     public Authentication getAuthentication(String token) {
-        if (!isValidToken(token)) {
+        if (!verifiedTokenCache.isEnabled()) {
+            return authenticate(parseAccessToken(token));
+        }
+
+        String tokenHash = VerifiedTokenCache.hash(token);
+        Authentication cached = verifiedTokenCache.get(tokenHash);
+        if (cached != null) {
+            Long memberId = ((AuthDetails) cached.getPrincipal()).getMemberId();
+            checkActive(memberId);
+            return cached;
+        }
+
+        Claims claims = parseAccessToken(token);
+        Authentication authentication = authenticate(claims);
+        if (claims.getExpiration() != null) {
+            verifiedTokenCache.put(tokenHash, authentication, claims.getExpiration().getTime());
+        }
+        return authentication;
+    }
+
+    private Claims parseAccessToken(String token) {
+        try {
+            return parseClaims(token);
+        } catch (JwtException | IllegalArgumentException e) {
             throw new AuthException(AuthErrorType.INVALID_ACCESS_TOKEN);
         }
+    }
+
+    private Authentication authenticate(Claims claims) {
+        Long memberId = Long.valueOf(claims.getSubject());
+        String role = claims.get(ROLE_CLAIM, String.class);
 
-        Long memberId = getMemberIdFromToken(token);
-        UserDetails userDetails = userDetailsService.loadUserByUsername(memberId.toString());
+        UserDetails userDetails = (stateless && role != null)
+                ? fromClaims(memberId, role)
+                : userDetailsService.loadUserByUsername(memberId.toString());
 
         return new UsernamePasswordAuthenticationToken(
                 userDetails, null, userDetails.getAuthorities()
         );
     }
 
-    private boolean isValidToken(String token) {
-        try {
-            Jws<Claims> claims = Jwts.parser()
-                    .setSigningKey(SECRETKEY)
-                    .build()
-                    .parseClaimsJws(token);
-            return !claims.getBody().getExpiration().before(new Date());
-        } catch (Exception e) {
-            return false;
+    private UserDetails fromClaims(Long memberId, String role) {
+        checkActive(memberId);
+        return new AuthDetails(memberId, MemberRole.valueOf(role));
+    }
+
+    private void checkActive(Long memberId) {
+        if (activeCheck && !activeMemberCache.isActive(memberId)) {
+            throw new AuthException(AuthErrorType.INVALID_ACCESS_TOKEN);
         }
     }
 
-    private String createToken(Long memberId, long expiration) {
+    private JwtBuilder tokenBuilder(Long memberId, long expiration) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration);
 
         return Jwts.builder()
-                .setSubject(memberId.toString())
-                .setIssuedAt(now)
-                .setExpiration(expiryDate)
-                .signWith(SignatureAlgorithm.HS512, SECRETKEY)
-                .compact();
-    }
-
-    private Long getMemberIdFromToken(String token) {
-        return Long.valueOf(getClaims(token).getSubject());
+                .subject(memberId.toString())
+                .issuedAt(now)
+                .expiration(expiryDate)
+                .signWith(secretKey, Jwts.SIG.HS512);
     }
 
-    private Claims getClaims(String token) {
-        return Jwts.parser()
-                .setSigningKey(SECRETKEY)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    private Claims parseClaims(String token) {
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
 }
@@ -0,0 +1,93 @@
+package com.example.munglogbackend.adapter.security.jwt;
+
+import com.example.munglogbackend.config.monitoring.CacheMetricsConfig;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+
+/**
+ * 검증이 끝난 Access Token의 인증 결과를 보관하는 캐시
+ * - 같은 토큰이 반복해서 들어오면 서명 검증과 클레임 파싱을 건너뛴다.
+ * - 키는 토큰 원문이 아닌 SHA-256 해시이며, 항목은 토큰 자신의 exp 시각에 만료된다.
+ * - Access Token은 재발급 후에도 exp까지 유효하므로(폐기 목록 없음) 캐시도 exp까지 그대로 둔다.
+ *   탈퇴 등 비활성 회원은 캐시 적중 시에도 JwtTokenProvider의 활성 회원 확인으로 걸러진다.
+ * - max-entries를 넘으면 Caffeine이 사용 빈도가 낮은 항목부터 비운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class VerifiedTokenCache {
+    public static final String CACHE_NAME = "auth_verified_token";
+
+    private final CacheMetricsConfig cacheMetrics;
+
+    @Value("${auth.token-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${auth.token-cache.max-entries:50000}")
+    private int maxEntries;
+
+    private Cache<String, Entry> entries;
+
+    private record Entry(Authentication authentication, long expiresAt) {}
+
+    @PostConstruct
+    void init() {
+        entries = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                // 토큰의 exp 시각에 만료되며, 요청이 없어도 만료된 항목이 정리되도록 시스템 스케줄러를 쓴다.
+                .expireAfter(Expiry.<String, Entry>creating((hash, entry) ->
+                        Duration.ofMillis(Math.max(entry.expiresAt() - System.currentTimeMillis(), 0L))))
+                .scheduler(Scheduler.systemScheduler())
+                .evictionListener(cacheMetrics.<String, Entry>evictionRecorder(CACHE_NAME))
+                .build();
+        cacheMetrics.registerSize(CACHE_NAME, entries.asMap());
+        cacheMetrics.registerHitRatio(CACHE_NAME);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 캐시된 인증 정보를 반환한다. 없거나 만료되었으면 null
+     */
+    public Authentication get(String tokenHash) {
+        Entry entry = entries.getIfPresent(tokenHash);
+        if (entry == null) {
+            cacheMetrics.recordMiss(CACHE_NAME);
+            return null;
+        }
+
+        cacheMetrics.recordHit(CACHE_NAME);
+        return entry.authentication();
+    }
+
+    public void put(String tokenHash, Authentication authentication, long expiresAt) {
+        if (expiresAt <= System.currentTimeMillis()) {
+            return;
+        }
+
+        entries.put(tokenHash, new Entry(authentication, expiresAt));
+    }
+
+    public static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
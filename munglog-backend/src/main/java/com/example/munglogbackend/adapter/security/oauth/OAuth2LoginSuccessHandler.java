@@ -34,7 +34,7 @@ public class OAuth2LoginSuccessHandler extends SimpleUrlAuthenticationSuccessHan
 
         Member member = memberFinder.findActiveByEmail(email);
 
-        String accessToken  = tokenProvider.createAccessToken(member.getId());
+        String accessToken  = tokenProvider.createAccessToken(member.getId(), member.getRole());
         String refreshToken = tokenProvider.createRefreshToken(member.getId());
 
         Cookie accessCookie = getAccessCookie(accessToken);
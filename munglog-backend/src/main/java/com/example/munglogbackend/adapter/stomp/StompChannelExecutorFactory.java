@@ -0,0 +1,82 @@
+package com.example.munglogbackend.adapter.stomp;
+
+import com.example.munglogbackend.config.monitoring.WebSocketMetricsConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * STOMP 채널(inbound / outbound)용 실행기 생성
+ * - broker 채널은 팬아웃 레인의 발행 순서를 지키기 위해 동기 채널로 두므로 여기서 만들지 않는다.
+ * - 채널마다 stomp.channel.{name}.core-pool-size / max-pool-size / queue-capacity / keep-alive-seconds 로 크기를 정한다.
+ * - 큐가 가득 차 거부된 작업은 집계한 뒤 rejection-policy(CALLER_RUNS, ABORT)에 따라 처리한다.
+ * - 가상 스레드 모드(stomp.channel.virtual-threads, 기본값은 spring.threads.virtual.enabled)에서는
+ *   작업 스레드를 가상 스레드로 만들고, 블로킹 핸들러가 동시에 더 많이 진행되도록 풀 크기를 virtual-pool-size로 늘린다.
+ * - 초기화와 종료는 Spring이 채널 실행기 빈으로 관리하므로 여기서는 설정만 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompChannelExecutorFactory {
+    private static final String PREFIX = "stomp.channel.";
+
+    private final Environment environment;
+    private final WebSocketMetricsConfig metricsConfig;
+
+    public enum RejectionPolicy {
+        CALLER_RUNS,
+        ABORT
+    }
+
+    public ThreadPoolTaskExecutor create(String channel, int defaultCorePoolSize, int defaultMaxPoolSize) {
+        boolean virtualThreads = environment.getProperty(PREFIX + "virtual-threads", Boolean.class,
+                environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false));
+        if (virtualThreads) {
+            // 가상 스레드는 생성 비용이 작으므로 동시 처리 상한만 둔다.
+            defaultCorePoolSize = property(channel, "virtual-pool-size", 256);
+            defaultMaxPoolSize = defaultCorePoolSize;
+        }
+
+        int corePoolSize = property(channel, "core-pool-size", defaultCorePoolSize);
+        int maxPoolSize = Math.max(corePoolSize, property(channel, "max-pool-size", defaultMaxPoolSize));
+        int queueCapacity = property(channel, "queue-capacity", 10_000);
+        int keepAliveSeconds = property(channel, "keep-alive-seconds", 60);
+        RejectionPolicy rejectionPolicy = environment.getProperty(
+                PREFIX + channel + ".rejection-policy", RejectionPolicy.class, RejectionPolicy.CALLER_RUNS);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("stomp-" + channel + "-");
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setKeepAliveSeconds(keepAliveSeconds);
+        executor.setAllowCoreThreadTimeOut(corePoolSize == maxPoolSize);
+        executor.setVirtualThreads(virtualThreads);
+        executor.setRejectedExecutionHandler(countingHandler(channel, rejectionPolicy));
+
+        metricsConfig.registerChannelExecutor(channel, executor);
+        log.info("🧵 STOMP {} 채널 실행기 (core={}, max={}, queue={}, rejection={}, virtualThreads={})",
+                channel, corePoolSize, maxPoolSize, queueCapacity, rejectionPolicy, virtualThreads);
+        return executor;
+    }
+
+    private int property(String channel, String name, int defaultValue) {
+        return environment.getProperty(PREFIX + channel + "." + name, Integer.class, defaultValue);
+    }
+
+    private RejectedExecutionHandler countingHandler(String channel, RejectionPolicy policy) {
+        RejectedExecutionHandler delegate = (policy == RejectionPolicy.ABORT)
+                ? new ThreadPoolExecutor.AbortPolicy()
+                : new ThreadPoolExecutor.CallerRunsPolicy();
+
+        return (task, executor) -> {
+            metricsConfig.recordChannelRejection(channel);
+            delegate.rejectedExecution(task, executor);
+        };
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.munglogbackend.adapter.stomp;
+
+import com.example.munglogbackend.config.monitoring.WebSocketMetricsConfig;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+import org.springframework.web.socket.server.HandshakeHandler;
+import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.Deflater;
+
+/**
+ * 순수 WebSocket 엔드포인트(/ws-stomp)의 permessage-deflate 협상과 압축 효과 측정
+ * - stomp.ws.deflate.enabled를 설정하지 않으면 서블릿 컨테이너(Tomcat)의 기본 협상을 그대로 따른다.
+ *   false로 설정한 경우에만 핸드셰이크 응답에서 확장을 빼 압축하지 않는다.
+ * - 실제 압축은 Tomcat이 하며 압축 레벨과 최소 크기는 설정할 수 없다.
+ *   stomp.ws.deflate.estimate.* 설정은 전송에 적용되지 않고, 협상된 세션의 송신 프레임을 표본 추출해
+ *   압축 비율과 CPU 시간을 추정하는 데만 쓴다. (estimate.min-size 미만 프레임 비율이 높으면 압축 이득이 작다)
+ * - 추정은 컨텍스트 유지(context takeover) 없이 프레임마다 새로 압축하므로 실제보다 보수적인 값이 나온다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompDeflateSupport {
+    private static final String PERMESSAGE_DEFLATE = "permessage-deflate";
+    // SYNC_FLUSH 뒤에 붙는 00 00 FF FF는 permessage-deflate 프레임에서 제거된다. (RFC 7692 7.2.1)
+    private static final int SYNC_FLUSH_TRAILER = 4;
+
+    private final WebSocketMetricsConfig metricsConfig;
+
+    // 설정하지 않으면(null) 컨테이너 기본값을 따르고, false일 때만 협상에서 뺀다.
+    @Value("${stomp.ws.deflate.enabled:#{null}}")
+    private Boolean enabled;
+
+    // 추정 전용: 이보다 작은 프레임은 below_threshold로만 센다.
+    @Value("${stomp.ws.deflate.estimate.min-size:1024}")
+    private int estimateMinSize;
+
+    // 추정 전용: 표본 프레임을 다시 압축할 때 쓰는 레벨
+    @Value("${stomp.ws.deflate.estimate.level:6}")
+    private int estimateLevel;
+
+    // N개 프레임 중 하나꼴로 압축 효과를 추정한다. (0이면 추정하지 않음)
+    @Value("${stomp.ws.deflate.estimate.sample-every:20}")
+    private int sampleEvery;
+
+    private ThreadLocal<Deflater> deflaters;
+    private final ThreadLocal<byte[]> buffers = ThreadLocal.withInitial(() -> new byte[8 * 1024]);
+
+    @PostConstruct
+    void init() {
+        int deflateLevel = estimateLevel;
+        deflaters = ThreadLocal.withInitial(() -> new Deflater(deflateLevel, true));
+        log.info("🗜️ permessage-deflate: enabled={}, estimate(minSize={}B, level={}, sampleEvery={})",
+                enabled == null ? "container-default" : enabled, estimateMinSize, estimateLevel, sampleEvery);
+    }
+
+    public boolean isSamplingEnabled() {
+        return sampleEvery > 0;
+    }
+
+    /**
+     * stomp.ws.deflate.enabled=false이면 permessage-deflate 확장을 걸러내는 핸드셰이크 핸들러
+     * (설정하지 않았거나 true이면 컨테이너가 협상한 결과를 그대로 둔다)
+     */
+    public HandshakeHandler handshakeHandler() {
+        return new DefaultHandshakeHandler() {
+            @Override
+            protected List<WebSocketExtension> filterRequestedExtensions(ServerHttpRequest request,
+                                                                         List<WebSocketExtension> requested,
+                                                                         List<WebSocketExtension> supported) {
+                List<WebSocketExtension> filtered = super.filterRequestedExtensions(request, requested, supported);
+                if (requested.stream().noneMatch(StompDeflateSupport::isDeflate)) {
+                    return filtered;
+                }
+                if (Boolean.FALSE.equals(enabled)) {
+                    filtered = filtered.stream().filter(extension -> !isDeflate(extension)).toList();
+                }
+                metricsConfig.recordDeflateNegotiation(filtered.stream().anyMatch(StompDeflateSupport::isDeflate));
+                return filtered;
+            }
+        };
+    }
+
+    /**
+     * 압축이 협상된 세션의 송신 프레임을 표본 추출해 압축 효과를 기록하는 데코레이터
+     */
+    public WebSocketHandlerDecoratorFactory decoratorFactory() {
+        return handler -> new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                boolean negotiated = session.getExtensions().stream().anyMatch(StompDeflateSupport::isDeflate);
+                super.afterConnectionEstablished(negotiated ? new SamplingSession(session) : session);
+            }
+        };
+    }
+
+    private class SamplingSession extends WebSocketSessionDecorator {
+        SamplingSession(WebSocketSession delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            if (ThreadLocalRandom.current().nextInt(sampleEvery) == 0) {
+                sample(message);
+            }
+            super.sendMessage(message);
+        }
+    }
+
+    private void sample(WebSocketMessage<?> message) {
+        byte[] payload;
+        if (message instanceof TextMessage text) {
+            payload = text.asBytes();
+        } else if (message instanceof BinaryMessage binary) {
+            ByteBuffer buffer = binary.getPayload().duplicate();
+            payload = new byte[buffer.remaining()];
+            buffer.get(payload);
+        } else {
+            return; // ping / pong
+        }
+
+        if (payload.length < estimateMinSize) {
+            metricsConfig.recordDeflateBelowThreshold();
+            return;
+        }
+        long start = System.nanoTime();
+        int compressed = deflatedSize(payload);
+        metricsConfig.recordDeflateSample(payload.length, compressed, System.nanoTime() - start);
+    }
+
+    private int deflatedSize(byte[] payload) {
+        Deflater deflater = deflaters.get();
+        byte[] buffer = buffers.get();
+        deflater.reset();
+        deflater.setInput(payload);
+
+        int total = 0;
+        int written;
+        do {
+            written = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+            total += written;
+        } while (written == buffer.length);
+        return Math.max(total - SYNC_FLUSH_TRAILER, 0);
+    }
+
+    private static boolean isDeflate(WebSocketExtension extension) {
+        return PERMESSAGE_DEFLATE.equalsIgnoreCase(extension.getName());
+    }
+}
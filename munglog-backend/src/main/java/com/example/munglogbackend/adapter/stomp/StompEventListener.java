@@ -1,5 +1,7 @@
 package com.example.munglogbackend.adapter.stomp;
 
+import com.example.munglogbackend.application.chat.fanout.WireFormat;
+import com.example.munglogbackend.application.chat.fanout.WireFormatSubscriptions;
 import com.example.munglogbackend.config.monitoring.WebSocketMetricsConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,18 +13,25 @@ import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 import org.springframework.web.socket.messaging.SessionSubscribeEvent;
 import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
 
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 // 스프링과 Stomp는 기본적으로 세션을 자동(내부적)으로 처리한다.
 // 연결/해제 이벤트를 기록, 연결된 세션 수를 실시간으로 확인할 목적으로 이벤트 리스너를 생성
+// UNSUBSCRIBE 프레임에는 destination이 없으므로 세션별로 (구독 ID -> destination)을 기억해 두고,
+// UNSUBSCRIBE와 연결 종료 시 이를 이용해 구독 수를 줄인다.
+// 구독 destination은 세션 인코딩의 suffix를 붙인 형태로 기억해, 인코딩별 구독 수(WireFormatSubscriptions)도 함께 갱신한다.
+// (SUBSCRIBE 이벤트는 inbound 채널의 StompHandler가 destination을 바꾸기 전에 발행될 수 있으므로 세션 속성으로 인코딩을 정한다)
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class StompEventListener {
 
     private final WebSocketMetricsConfig metricsConfig;
+    private final WireFormatSubscriptions wireFormatSubscriptions;
     private final Set<String> sessions = ConcurrentHashMap.newKeySet();
+    private final ConcurrentHashMap<String, Map<String, String>> subscriptionsBySession = new ConcurrentHashMap<>();
 
     @EventListener
     public void connectHandle(SessionConnectEvent event) {
@@ -39,13 +48,24 @@ public class StompEventListener {
     @EventListener
     public void onSubscribe(SessionSubscribeEvent e) {
         StompHeaderAccessor accessor = StompHeaderAccessor.wrap(e.getMessage());
-        String destination = accessor.getDestination();
-        if (destination == null) {
+        if (accessor.getDestination() == null) {
             log.warn("🔔 SUB without destination. session={}", accessor.getSessionId());
             return;
         }
+        String destination = wireFormatOf(accessor).destination(WireFormat.baseDestination(accessor.getDestination()));
+
+        String subscriptionId = accessor.getSubscriptionId();
+        if (accessor.getSessionId() != null && subscriptionId != null) {
+            String replaced = subscriptionsBySession.computeIfAbsent(accessor.getSessionId(), id -> new ConcurrentHashMap<>())
+                    .put(subscriptionId, destination);
+            if (replaced != null) {
+                // 같은 구독 ID를 재사용한 경우 이전 구독은 끝난 것으로 본다.
+                unsubscribed(replaced);
+            }
+        }
 
         metricsConfig.incrementSubscriptions(destination);
+        wireFormatSubscriptions.subscribed(destination);
         log.info("🔔 SUB: session={}, dest={}", accessor.getSessionId(), destination);
     }
 
@@ -53,12 +73,20 @@ public class StompEventListener {
     public void onUnsubscribe(SessionUnsubscribeEvent e) {
         StompHeaderAccessor accessor = StompHeaderAccessor.wrap(e.getMessage());
         String destination = accessor.getDestination();
+        Map<String, String> subscriptions = (accessor.getSessionId() != null)
+                ? subscriptionsBySession.get(accessor.getSessionId()) : null;
+        if (subscriptions != null && accessor.getSubscriptionId() != null) {
+            String subscribed = subscriptions.remove(accessor.getSubscriptionId());
+            if (subscribed != null) {
+                destination = subscribed;
+            }
+        }
         if (destination == null) {
             log.warn("🔕 UNSUB without destination. session={}", accessor.getSessionId());
             return;
         }
 
-        metricsConfig.decrementSubscriptions(destination);
+        unsubscribed(destination);
         log.info("🔕 UNSUB: session={}, dest={}", accessor.getSessionId(), destination);
     }
 
@@ -68,9 +96,26 @@ public class StompEventListener {
         String sessionId = accessor.getSessionId();
         sessions.remove(sessionId);
 
+        // 해제되지 않은 구독은 연결 종료와 함께 정리한다.
+        Map<String, String> subscriptions = subscriptionsBySession.remove(sessionId);
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::unsubscribed);
+        }
+
         metricsConfig.decrementConnections(sessionId);
 
         log.info("❌ Stomp disconnected. Session ID: {}, Total sessions: {}",
                 sessionId, sessions.size());
     }
-}
\ No newline at end of file
+
+    private void unsubscribed(String destination) {
+        metricsConfig.decrementSubscriptions(destination);
+        wireFormatSubscriptions.unsubscribed(destination);
+    }
+
+    private static WireFormat wireFormatOf(StompHeaderAccessor accessor) {
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+        Object negotiated = (sessionAttributes != null) ? sessionAttributes.get(StompHandler.WIRE_FORMAT_ATTRIBUTE) : null;
+        return (negotiated instanceof WireFormat wireFormat) ? wireFormat : WireFormat.JSON;
+    }
+}
@@ -1,9 +1,11 @@
 package com.example.munglogbackend.adapter.stomp;
 
+import com.example.munglogbackend.application.chat.fanout.WireFormat;
 import com.example.munglogbackend.application.chat.provided.ChatParticipantFinder;
 import com.example.munglogbackend.application.security.TokenProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.MessagingException;
@@ -15,12 +17,22 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class StompHandler implements ChannelInterceptor {
+    private static final String AUTH_ATTRIBUTE = "AUTH";
+    static final String WIRE_FORMAT_ATTRIBUTE = "WIRE_FORMAT";
+
     private final ChatParticipantFinder chatFinder;
     private final TokenProvider tokenProvider;
+    private final StompSessionAclCache sessionAclCache;
+
+    // 꺼져 있으면 wire-format 헤더와 관계없이 모든 세션이 JSON 토픽을 구독한다.
+    @Value("${stomp.wire.cbor.enabled:false}")
+    private boolean cborEnabled;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -31,7 +43,9 @@ public class StompHandler implements ChannelInterceptor {
 
             try {
                 Authentication authentication = getAuthentication(accessor);
-                accessor.getSessionAttributes().put("AUTH", authentication); //
+                accessor.getSessionAttributes().put(AUTH_ATTRIBUTE, authentication);
+                accessor.getSessionAttributes().put(WIRE_FORMAT_ATTRIBUTE, negotiateWireFormat(accessor));
+                sessionAclCache.open(accessor.getSessionId());
                 log.info("[preSend] accessor.getUser(): " + accessor.getUser());
                 log.info("[preSend] 토큰 검증 완료");
 
@@ -45,15 +59,18 @@ public class StompHandler implements ChannelInterceptor {
         if(StompCommand.SUBSCRIBE == accessor.getCommand()){
             log.info("[preSend|SUBSCRIBE] SUBSCRIBE 진입");
 
-            Authentication auth = getAuthentication(accessor);
-            log.info("[preSend] accessor.getUser(): " + accessor.getUser());
+            // CONNECT 때 검증한 인증 정보를 재사용하고, 없을 때만 헤더의 토큰을 다시 검증한다.
+            Authentication auth = getSessionAuthentication(accessor);
+            log.debug("[preSend] accessor.getUser(): {}", accessor.getUser());
 
-            final String destination = accessor.getDestination();
-            log.info("[preSend|SUBSCRIBE] destination = {}", destination);
+            final String requestedDestination = accessor.getDestination();
+            log.info("[preSend|SUBSCRIBE] destination = {}", requestedDestination);
 
-            if (destination == null) {
+            if (requestedDestination == null) {
                 throw new MessagingException("Missing destination");
             }
+            // 권한 확인은 인코딩 suffix를 뗀 destination으로 한다.
+            final String destination = WireFormat.baseDestination(requestedDestination);
 
             // 1) 개인 토픽: /topic/user.{memberId}.room-summary
             if (destination.startsWith("/topic/user.")) {
@@ -70,7 +87,7 @@ public class StompHandler implements ChannelInterceptor {
                 if (!requestedUserId.equals(authenticatedUserId)) {
                     throw new AccessDeniedException("Cannot subscribe to another user's topic");
                 }
-                return message;
+                return withWireFormat(message, accessor, destination);
             }
 
             // 2) 방 토픽: /topic/chat.room.{roomId}
@@ -86,16 +103,61 @@ public class StompHandler implements ChannelInterceptor {
                 Long roomId = Long.parseLong(roomIdStr);
                 Long memberId = Long.parseLong(authenticatedUserId);
 
+                String sessionId = accessor.getSessionId();
+                if (sessionAclCache.isAllowed(sessionId, roomId)) {
+                    return withWireFormat(message, accessor, destination);
+                }
+
+                long generation = sessionAclCache.generation();
                 if (!chatFinder.isRoomMember(roomId, memberId)) {
                     throw new MessagingException("UNAUTHORIZED_ROOM_MEMBER");
                 }
-                return message;
+                sessionAclCache.allow(sessionId, roomId, generation);
+                return withWireFormat(message, accessor, destination);
             }
 
         }
         return message;
     }
 
+    /**
+     * CONNECT의 wire-format 헤더로 세션 인코딩을 정한다. 서버에서 꺼져 있거나 모르는 값이면 JSON으로 대체한다.
+     */
+    private WireFormat negotiateWireFormat(StompHeaderAccessor accessor) {
+        WireFormat requested = WireFormat.of(accessor.getFirstNativeHeader(WireFormat.HEADER));
+        if (requested == WireFormat.CBOR && !cborEnabled) {
+            log.debug("[preSend] CBOR 비활성화 상태, JSON으로 대체 (sessionId={})", accessor.getSessionId());
+            return WireFormat.JSON;
+        }
+        return requested;
+    }
+
+    /**
+     * 세션 인코딩에 맞는 토픽으로 구독 destination을 바꾼다. (JSON 세션은 원래 destination 그대로)
+     */
+    private Message<?> withWireFormat(Message<?> message, StompHeaderAccessor accessor, String baseDestination) {
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+        Object negotiated = (sessionAttributes != null) ? sessionAttributes.get(WIRE_FORMAT_ATTRIBUTE) : null;
+        WireFormat format = (negotiated instanceof WireFormat wireFormat) ? wireFormat : WireFormat.JSON;
+
+        String target = format.destination(baseDestination);
+        if (target.equals(accessor.getDestination())) {
+            return message;
+        }
+        accessor.setDestination(target);
+        return MessageBuilder.createMessage(message.getPayload(), accessor.getMessageHeaders());
+    }
+
+    private Authentication getSessionAuthentication(StompHeaderAccessor accessor) {
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+        Object cached = (sessionAttributes != null) ? sessionAttributes.get(AUTH_ATTRIBUTE) : null;
+        if (cached instanceof Authentication authentication) {
+            accessor.setUser(authentication);
+            return authentication;
+        }
+        return getAuthentication(accessor);
+    }
+
     private Authentication getAuthentication(StompHeaderAccessor accessor) {
         String bearerToken = accessor.getFirstNativeHeader("Authorization");
 
@@ -0,0 +1,149 @@
+package com.example.munglogbackend.adapter.stomp;
+
+import com.example.munglogbackend.config.monitoring.WebSocketMetricsConfig;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클라이언트가 보내는 SEND 프레임(/publish/**)의 유입 속도 제한
+ * - 세션 단위와 회원 단위(여러 세션 합산) 버킷을 모두 통과해야 메시지가 처리된다.
+ * - 버킷은 ConcurrentHashMap + CAS(TokenBucket)로만 갱신되며 전역 락이 없다.
+ * - 제한을 넘긴 프레임은 policy에 따라 조용히 버리거나(DROP) 예외를 던져 ERROR 프레임을 보낸다(ERROR).
+ * - 세션 버킷은 연결 종료 시, 회원 버킷은 가득 찬(유휴) 상태가 되면 주기적으로 정리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompRateLimitInterceptor implements ChannelInterceptor {
+    private static final String AUTH_ATTRIBUTE = "AUTH";
+
+    private final WebSocketMetricsConfig metricsConfig;
+
+    @Value("${stomp.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${stomp.rate-limit.policy:DROP}")
+    private Policy policy;
+
+    @Value("${stomp.rate-limit.session.rate-per-second:20}")
+    private double sessionRate;
+
+    @Value("${stomp.rate-limit.session.burst:40}")
+    private int sessionBurst;
+
+    @Value("${stomp.rate-limit.member.rate-per-second:30}")
+    private double memberRate;
+
+    @Value("${stomp.rate-limit.member.burst:60}")
+    private int memberBurst;
+
+    private final ConcurrentHashMap<String, TokenBucket> sessionBuckets = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, TokenBucket> memberBuckets = new ConcurrentHashMap<>();
+
+    private Limit sessionLimit;
+    private Limit memberLimit;
+
+    /**
+     * 제한 초과 시 처리 방식
+     * - DROP: 프레임을 버리고 연결은 유지한다.
+     * - ERROR: MessagingException을 던져 클라이언트에 ERROR 프레임을 보낸다.
+     */
+    public enum Policy {
+        DROP,
+        ERROR
+    }
+
+    private record Limit(long emissionIntervalNanos, long burstToleranceNanos) {
+        static Limit of(double ratePerSecond, int burst) {
+            long interval = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+            return new Limit(interval, interval * Math.max(0, burst - 1));
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        sessionLimit = Limit.of(sessionRate, sessionBurst);
+        memberLimit = Limit.of(memberRate, memberBurst);
+        log.info("🚦 STOMP 유입 제한 (enabled={}, session={}/s burst {}, member={}/s burst {}, policy={})",
+                enabled, sessionRate, sessionBurst, memberRate, memberBurst, policy);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        if (!enabled || SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE) {
+            return message;
+        }
+
+        long now = System.nanoTime();
+
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+        if (sessionId != null && !acquire(sessionBuckets, sessionId, sessionLimit, now)) {
+            return reject("session", sessionId, message);
+        }
+
+        String memberId = memberId(headers);
+        if (memberId != null && !acquire(memberBuckets, memberId, memberLimit, now)) {
+            return reject("member", sessionId, message);
+        }
+
+        return message;
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        sessionBuckets.remove(event.getSessionId());
+    }
+
+    /**
+     * 가득 찬 회원 버킷은 지워도 다음 요청 때 같은 상태로 다시 만들어지므로 정리한다.
+     */
+    @Scheduled(fixedDelayString = "${stomp.rate-limit.purge-interval-ms:60000}")
+    public void purgeIdleBuckets() {
+        long now = System.nanoTime();
+        memberBuckets.entrySet().removeIf(e -> e.getValue().isFull(now));
+    }
+
+    private static boolean acquire(ConcurrentHashMap<String, TokenBucket> buckets, String key, Limit limit, long now) {
+        TokenBucket bucket = buckets.computeIfAbsent(key, k -> new TokenBucket(now));
+        return bucket.tryAcquire(now, limit.emissionIntervalNanos(), limit.burstToleranceNanos());
+    }
+
+    private static String memberId(MessageHeaders headers) {
+        Map<String, Object> sessionAttributes = SimpMessageHeaderAccessor.getSessionAttributes(headers);
+        Object auth = (sessionAttributes != null) ? sessionAttributes.get(AUTH_ATTRIBUTE) : null;
+        if (auth instanceof Authentication authentication) {
+            return authentication.getName();
+        }
+        return null;
+    }
+
+    private Message<?> reject(String scope, String sessionId, Message<?> message) {
+        metricsConfig.recordThrottled(scope, policy.name());
+        log.debug("STOMP 유입 제한 (scope={}, session={}, destination={})",
+                scope, sessionId, SimpMessageHeaderAccessor.getDestination(message.getHeaders()));
+
+        if (policy == Policy.ERROR) {
+            throw new MessagingException(message, "RATE_LIMITED");
+        }
+        return null;
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.munglogbackend.adapter.stomp;
+
+import com.example.munglogbackend.application.chat.cache.ChatRosterCache;
+import com.example.munglogbackend.config.monitoring.CacheMetricsConfig;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * STOMP 세션별로 구독이 허용된 채팅방을 기억하는 캐시
+ * - 재연결 직후 같은 세션이 여러 방을 다시 구독해도 멤버 확인은 방마다 한 번만 수행한다.
+ * - 허용된 결과만 보관한다. 거부된 구독은 매번 다시 확인하므로 방금 참여한 회원도 바로 구독할 수 있다.
+ * - 세션 항목은 CONNECT 시 만들어지고 DISCONNECT 시 제거된다.
+ * - 방 명단이 무효화되면(나가기, 초대 등) 모든 세션에서 해당 방의 허용 기록을 지운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StompSessionAclCache {
+    public static final String CACHE_NAME = "stomp_session_acl";
+
+    private final ChatRosterCache chatRosterCache;
+    private final CacheMetricsConfig cacheMetrics;
+
+    private final ConcurrentHashMap<String, Set<Long>> allowedRoomsBySession = new ConcurrentHashMap<>();
+
+    // 멤버 확인 도중 무효화가 일어났는지 판별하기 위한 세대 번호
+    private final AtomicLong generation = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        cacheMetrics.registerSize(CACHE_NAME, allowedRoomsBySession);
+        chatRosterCache.addEvictionListener(this::evictRoom);
+    }
+
+    public void open(String sessionId) {
+        if (sessionId != null) {
+            allowedRoomsBySession.putIfAbsent(sessionId, ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    public boolean isAllowed(String sessionId, Long roomId) {
+        Set<Long> rooms = sessionId == null ? null : allowedRoomsBySession.get(sessionId);
+        if (rooms != null && rooms.contains(roomId)) {
+            cacheMetrics.recordHit(CACHE_NAME);
+            return true;
+        }
+        cacheMetrics.recordMiss(CACHE_NAME);
+        return false;
+    }
+
+    /**
+     * 멤버 확인 결과를 기록한다.
+     * 확인 시작 이후 무효화가 있었거나 이미 끊어진 세션이면 기록하지 않는다.
+     */
+    public void allow(String sessionId, Long roomId, long checkedGeneration) {
+        Set<Long> rooms = sessionId == null ? null : allowedRoomsBySession.get(sessionId);
+        if (rooms != null && checkedGeneration == generation.get()) {
+            rooms.add(roomId);
+        }
+    }
+
+    public void evictRoom(Long roomId) {
+        generation.incrementAndGet();
+        int evicted = 0;
+        for (Set<Long> rooms : allowedRoomsBySession.values()) {
+            if (rooms.remove(roomId)) {
+                evicted++;
+            }
+        }
+        if (evicted > 0) {
+            cacheMetrics.recordEvictions(CACHE_NAME, evicted);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        allowedRoomsBySession.remove(event.getSessionId());
+    }
+}
@@ -14,7 +14,12 @@ import org.springframework.web.socket.config.annotation.WebSocketTransportRegist
 @RequiredArgsConstructor
 @EnableWebSocketMessageBroker
 public class StompWebSocketConfig implements WebSocketMessageBrokerConfigurer {
+    private static final int PROCESSORS = Runtime.getRuntime().availableProcessors();
+
     private final StompHandler stompHandler;
+    private final StompRateLimitInterceptor stompRateLimitInterceptor;
+    private final StompChannelExecutorFactory channelExecutorFactory;
+    private final StompDeflateSupport deflateSupport;
 
     @Value("${stomp.relay.host}")
     private String relayHost;
@@ -37,7 +42,9 @@ public class StompWebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         // 부하테스트 / 서버 간 통신용 (순수 WebSocket)
+        // permessage-deflate는 컨테이너 기본 협상을 따르며 stomp.ws.deflate.enabled=false일 때만 뺀다.
         registry.addEndpoint("/ws-stomp")
+                .setHandshakeHandler(deflateSupport.handshakeHandler())
                 .setAllowedOriginPatterns("*");
 
         registry.addEndpoint("/connect")
@@ -63,12 +70,26 @@ public class StompWebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .setSystemLogin(systemLogin)
                 .setSystemPasscode(systemPasscode)
                 .setVirtualHost("/");             // 기본 vhost
+
+        // 브로커 채널(애플리케이션 -> 릴레이)은 동기 채널로 둔다.
+        // 실행기를 붙이면 팬아웃 레인 한 스레드가 순서대로 보낸 메시지가 릴레이에 뒤바뀌어 도착할 수 있다.
+
+        // outbound 채널이 여러 스레드여도 세션마다 브로커에서 받은 순서대로 클라이언트에 보낸다.
+        registry.setPreservePublishOrder(true);
     }
 
     // 웹소켓 요청(connect, subscribe, disconnect)등의 요청시에는 http header등 http 메시지를 넣어올 수 있고, 이를 interceptor를 통해 가로채 토큰 등을 검증할 수 있음.
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.interceptors(stompHandler);
+        // 인증/구독 권한 확인 이후 SEND 프레임의 유입 속도를 제한한다.
+        registration.interceptors(stompHandler, stompRateLimitInterceptor);
+        registration.taskExecutor(channelExecutorFactory.create("inbound", PROCESSORS * 2, PROCESSORS * 2));
+    }
+
+    // 릴레이 -> 클라이언트 세션으로 나가는 메시지 실행기
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor(channelExecutorFactory.create("outbound", PROCESSORS * 2, PROCESSORS * 2));
     }
 
     @Override
@@ -77,5 +98,10 @@ public class StompWebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .setMessageSizeLimit(512 * 1024)
                 .setSendBufferSizeLimit(1024 * 1024)
                 .setSendTimeLimit(20000);
+
+        // 압축이 협상된 세션의 송신 프레임 압축률 / CPU 시간 표본 측정
+        if (deflateSupport.isSamplingEnabled()) {
+            registration.addDecoratorFactory(deflateSupport.decoratorFactory());
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.example.munglogbackend.adapter.stomp;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GCRA(Generic Cell Rate Algorithm) 방식의 토큰 버킷
+ * - 남은 토큰 수 대신 "다음 요청이 여유 없이 허용되는 시각(TAT)" 하나만 보관하므로 CAS 한 번으로 갱신된다.
+ * - 요청 간격(emissionInterval)은 1 / rate, 허용 버스트는 burstTolerance = (burst - 1) * emissionInterval 이다.
+ */
+final class TokenBucket {
+    private final AtomicLong theoreticalArrivalNanos;
+
+    TokenBucket(long nowNanos) {
+        this.theoreticalArrivalNanos = new AtomicLong(nowNanos);
+    }
+
+    boolean tryAcquire(long nowNanos, long emissionIntervalNanos, long burstToleranceNanos) {
+        while (true) {
+            long tat = theoreticalArrivalNanos.get();
+            long base = Math.max(tat, nowNanos);
+            if (base - nowNanos > burstToleranceNanos) {
+                return false;
+            }
+            if (theoreticalArrivalNanos.compareAndSet(tat, base + emissionIntervalNanos)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 버킷이 가득 찬 상태(최근 요청이 없음)인지 여부. 이런 버킷은 지워도 동작이 같다.
+     */
+    boolean isFull(long nowNanos) {
+        return theoreticalArrivalNanos.get() <= nowNanos;
+    }
+}
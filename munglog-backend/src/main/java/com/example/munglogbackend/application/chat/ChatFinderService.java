@@ -1,29 +1,47 @@
 package com.example.munglogbackend.application.chat;
 
+import com.example.munglogbackend.application.chat.cache.ChatInboxCache;
+import com.example.munglogbackend.application.chat.cache.ChatRosterCache;
+import com.example.munglogbackend.application.chat.cache.HotGroupRoomsCache;
+import com.example.munglogbackend.application.chat.cache.RecentMessageCache;
 import com.example.munglogbackend.application.chat.provided.ChatMessageFinder;
 import com.example.munglogbackend.application.chat.provided.ChatParticipantFinder;
 import com.example.munglogbackend.application.chat.provided.ChatRoomFinder;
 import com.example.munglogbackend.application.chat.required.ChatMessageRepository;
 import com.example.munglogbackend.application.chat.required.ChatParticipantRepository;
+import com.example.munglogbackend.application.chat.required.ChatReadCursorRepository;
 import com.example.munglogbackend.application.chat.required.ChatRoomRepository;
-import com.example.munglogbackend.application.chat.dto.ChatMessageDto;
+import com.example.munglogbackend.application.chat.dto.ChatInboxCursor;
+import com.example.munglogbackend.application.chat.dto.ChatHistoryRequest;
+import com.example.munglogbackend.application.chat.dto.ChatInboxRoom;
+import com.example.munglogbackend.application.chat.dto.ChatMessageFrame;
+import com.example.munglogbackend.application.chat.dto.ChatReadCursor;
+import com.example.munglogbackend.application.chat.dto.ChatRoomCursor;
+import com.example.munglogbackend.application.chat.dto.ChatRoomHistory;
+import com.example.munglogbackend.application.chat.dto.ChatRoomListing;
 import com.example.munglogbackend.application.chat.dto.ChatRoomSummary;
-import com.example.munglogbackend.application.member.provided.MemberFinder;
+import com.example.munglogbackend.application.chat.dto.CursorSlice;
+import com.example.munglogbackend.application.chat.dto.RecentMessage;
 import com.example.munglogbackend.domain.chat.entity.ChatMessage;
 import com.example.munglogbackend.domain.chat.entity.ChatParticipant;
 import com.example.munglogbackend.domain.chat.entity.ChatRoom;
 import com.example.munglogbackend.domain.chat.enumerate.ChatRoomType;
 import com.example.munglogbackend.domain.chat.exception.ChatErrorType;
 import com.example.munglogbackend.domain.chat.exception.ChatException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.*;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
-
-import static org.springframework.data.domain.Sort.Direction.DESC;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Service
 @RequiredArgsConstructor
@@ -33,7 +51,36 @@ public class ChatFinderService implements ChatRoomFinder, ChatParticipantFinder,
     private final ChatRoomRepository chatRoomRepository;
     private final ChatParticipantRepository chatParticipantRepository;
     private final ChatMessageRepository chatMessageRepository;
-    private final MemberFinder memberFinder;
+    private final ChatRosterCache chatRosterCache;
+    private final ChatInboxCache chatInboxCache;
+    private final HotGroupRoomsCache hotGroupRoomsCache;
+    private final RecentMessageCache recentMessageCache;
+    private final ChatReadCursorRepository chatReadCursorRepository;
+
+    // 일괄 메시지 조회 시 채팅방별 조회를 동시에 실행할 스레드 수 (큐가 가득 차면 요청 스레드에서 실행)
+    @Value("${chat.history.batch.pool-size:8}")
+    private int historyPoolSize;
+
+    @Value("${chat.history.batch.queue-capacity:256}")
+    private int historyQueueCapacity;
+
+    private ThreadPoolTaskExecutor historyExecutor;
+
+    @PostConstruct
+    void initHistoryExecutor() {
+        historyExecutor = new ThreadPoolTaskExecutor();
+        historyExecutor.setCorePoolSize(historyPoolSize);
+        historyExecutor.setMaxPoolSize(historyPoolSize);
+        historyExecutor.setQueueCapacity(historyQueueCapacity);
+        historyExecutor.setThreadNamePrefix("chat-history-");
+        historyExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        historyExecutor.initialize();
+    }
+
+    @PreDestroy
+    void shutdownHistoryExecutor() {
+        historyExecutor.shutdown();
+    }
 
     /**
      * roomId에 해당하는 채팅방을 조회한다.
@@ -63,80 +110,142 @@ public class ChatFinderService implements ChatRoomFinder, ChatParticipantFinder,
     }
 
     /**
-     * memberId가 참가하고 있는 채팅방 요약 리스트를 조회한다.
+     * memberId가 참가하고 있는 채팅방 요약을 최신 메시지 순으로 limit개씩 조회한다.
+     * inbox 인덱스와 방별 상태를 Redis에서 읽으며, 다음 페이지는 nextCursor를 before로 넘겨 조회한다.
      * **/
     @Override
-    public List<ChatRoomSummary> findRoomsByMember(Long memberId) {
-        List<ChatParticipant> chatParticipants = chatParticipantRepository.findAllByMember_Id(memberId);
-        List<ChatRoom> chatRooms = chatParticipants.stream()
-                .map(ChatParticipant::getChatRoom)
-                .distinct()
-                .toList();
-        List<Long> roomIds = chatRooms.stream().map(ChatRoom::getId).toList();
+    public CursorSlice<ChatRoomSummary> findRoomsByMember(Long memberId, int limit, String before) {
+        // 사이즈에 제한을 둔다.
+        if (limit > 100) {limit = 100;}
+        if (limit < 1) {limit = 1;}
 
-        // 방별 최신 seq
-        Map<Long, Long> latestSeqMap = chatMessageRepository.findMaxSeqForRoomIds(roomIds);
+        ChatInboxCursor cursor = ChatInboxCursor.parse(before);
+        List<ChatInboxRoom> rows = chatInboxCache.findPage(memberId, cursor, limit + 1);
 
-        // 방별 unreadCount 계산
-        Map<Long, Long> unreadMap = new HashMap<>();
-        for (ChatParticipant cp : chatParticipants) {
-            Long roomId = cp.getChatRoom().getId();
-            long unread = getUnReadCount(cp, latestSeqMap, roomId);
-            unreadMap.put(roomId, unread);
-        }
+        boolean hasNext = rows.size() > limit;
+        if (hasNext) rows = rows.subList(0, limit);
 
-        // 5) ChatRoomSummary 리스트로 반환
-        return chatRooms.stream()
-                .sorted(Comparator.comparing(ChatRoom::getLastMessageAt, Comparator.nullsLast(Comparator.naturalOrder())).reversed())
-                .map(room -> {
-                    long unread = unreadMap.getOrDefault(room.getId(), 0L);
-                    return ChatRoomSummary.of(room, unread,room.getChatRoomType(), room.getLastMessagePreview(), room.getLastMessageAt());
-                }).toList();
+        List<ChatRoomSummary> content = rows.stream()
+                .map(room -> new ChatRoomSummary(
+                        room.roomId(),
+                        room.unreadCount(),
+                        room.chatRoomType(),
+                        room.lastMessagePreview(),
+                        ChatRoomSummary.toEpochMilli(room.lastMessageAt())
+                ))
+                .toList();
+        String nextCursor = hasNext ? ChatInboxCursor.of(rows.get(rows.size() - 1)).encode() : null;
+        return new CursorSlice<>(content, hasNext, nextCursor);
     }
 
     /**
-     * 모든 그룹 채팅방 요약 리스트를 조회한다.
+     * 그룹 채팅방 요약을 최근 메시지 순으로 limit개씩 조회한다.
+     * 첫 페이지는 주기적으로 갱신되는 스냅샷에서, 이후 페이지는 (last_message_at, id) 키셋으로 조회한다.
      * **/
     @Override
-    public List<ChatRoomSummary> findGroupChatRooms(Long memberId) {
-        List<ChatParticipant> chatParticipants = chatParticipantRepository.findAllByMember_Id(memberId);
-        memberFinder.findActiveById(memberId);
-        List<ChatRoom> groupChatRooms = chatRoomRepository.findAllByChatRoomType(ChatRoomType.GROUP);
+    public CursorSlice<ChatRoomSummary> findGroupChatRooms(Long memberId, int limit, String before) {
+        // 사이즈에 제한을 둔다.
+        if (limit > 100) {limit = 100;}
+        if (limit < 1) {limit = 1;}
 
-        List<Long> roomIds = groupChatRooms.stream().map(ChatRoom::getId).toList();
+        ChatRoomCursor cursor = ChatRoomCursor.parse(before);
+        List<ChatRoomListing> rows = (cursor == null) ? hotGroupRoomsCache.findFirstPage(limit + 1) : null;
+        if (rows == null) {
+            rows = chatRoomRepository.findListingsByType(ChatRoomType.GROUP, cursor, limit + 1);
+        }
 
-        // 방별 최신 seq
-        Map<Long, Long> latestSeqMap = chatMessageRepository.findMaxSeqForRoomIds(roomIds);
+        boolean hasNext = rows.size() > limit;
+        if (hasNext) rows = rows.subList(0, limit);
 
-        // 방별 unreadCount 계산
-        Map<Long, Long> unreadMap = new HashMap<>();
-        for (ChatParticipant cp : chatParticipants) {
-            Long roomId = cp.getChatRoom().getId();
-            long unread = getUnReadCount(cp, latestSeqMap, roomId);
-            unreadMap.put(roomId, unread);
-        }
+        // 페이지에 포함된 방만 최신 seq와 내 읽음 위치를 조회
+        List<Long> roomIds = rows.stream().map(ChatRoomListing::roomId).toList();
+        Map<Long, Long> latestSeqMap = chatMessageRepository.findMaxSeqForRoomIds(roomIds);
+        Map<Long, Long> lastReadSeqMap = findMyLastReadSeqs(memberId, roomIds);
 
-        return groupChatRooms.stream()
-                .sorted(Comparator.comparing(ChatRoom::getLastMessageAt, Comparator.nullsLast(Comparator.naturalOrder())).reversed())
-                .map(room -> {
-                    long unread = unreadMap.getOrDefault(room.getId(), 0L);
-                    return ChatRoomSummary.of(room, unread,room.getChatRoomType(), room.getLastMessagePreview(), room.getLastMessageAt());
-                }).toList();
+        List<ChatRoomSummary> content = rows.stream()
+                .map(room -> new ChatRoomSummary(
+                        room.roomId(),
+                        getUnReadCount(room.roomId(), latestSeqMap, lastReadSeqMap),
+                        room.chatRoomType(),
+                        room.lastMessagePreview(),
+                        ChatRoomSummary.toEpochMilli(room.lastMessageAt())
+                ))
+                .toList();
+        String nextCursor = hasNext ? ChatRoomCursor.of(rows.get(rows.size() - 1)).encode() : null;
+        return new CursorSlice<>(content, hasNext, nextCursor);
     }
 
     /**
      * roomId에 해당하는 채팅방의 beforeSeq 이전 메시지들을 size만큼 조회한다.
      * **/
     @Override
-    public Slice<ChatMessageDto> fetchMessagesBeforeSeq(Long roomId, Long beforeSeq, int size, Long memberId) {
+    public Slice<ChatMessageFrame> fetchMessagesBeforeSeq(Long roomId, Long beforeSeq, int size, Long memberId) {
         // 멤버가 채팅방의 구성원인지 확인
-        chatParticipantRepository.findByChatRoom_IdAndMember_Id(roomId, memberId)
-                .orElseThrow(() -> new ChatException(ChatErrorType.MEMBER_NOT_IN_CHAT_ROOM));
+        if (!chatRosterCache.isMember(roomId, memberId)) {
+            throw new ChatException(ChatErrorType.MEMBER_NOT_IN_CHAT_ROOM);
+        }
 
         // 사이즈에 제한을 둔다.
         if (size > 100) {size = 100;}
 
-        Pageable pageable = PageRequest.of(0, size + 1, Sort.by(DESC, "seq"));
+        ChatRoomHistory history = readHistory(roomId, beforeSeq, size);
+        return new SliceImpl<>(history.messages(), PageRequest.of(0, size), history.hasNext());
+    }
+
+    /**
+     * 여러 채팅방의 메시지를 한 번에 조회한다.
+     * - 멤버 여부는 모든 방을 한 번에 확인하며, 하나라도 구성원이 아니면 전체 요청을 거부한다.
+     * - 방별 조회(최근 메시지 링 → Mongo)는 historyExecutor에서 동시에 실행한다.
+     * - 결과는 요청 순서대로 반환한다.
+     * **/
+    @Override
+    public List<ChatRoomHistory> fetchMessagesBeforeSeq(List<ChatHistoryRequest> requests, Long memberId) {
+        Set<Long> roomIds = new LinkedHashSet<>();
+        for (ChatHistoryRequest request : requests) {
+            roomIds.add(request.roomId());
+        }
+        if (!chatRosterCache.filterMemberRooms(memberId, roomIds).containsAll(roomIds)) {
+            throw new ChatException(ChatErrorType.MEMBER_NOT_IN_CHAT_ROOM);
+        }
+
+        List<CompletableFuture<ChatRoomHistory>> futures = new ArrayList<>(requests.size());
+        for (ChatHistoryRequest request : requests) {
+            int size = Math.min(request.sizeOrDefault(), 100);
+            futures.add(CompletableFuture.supplyAsync(
+                    () -> readHistory(request.roomId(), request.beforeSeq(), size), historyExecutor));
+        }
+
+        List<ChatRoomHistory> histories = new ArrayList<>(futures.size());
+        try {
+            for (CompletableFuture<ChatRoomHistory> future : futures) {
+                histories.add(future.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return histories;
+    }
+
+    /**
+     * beforeSeq 이전(null이면 최신) size건을 seq 오름차순으로 읽는다. (멤버 확인은 호출하는 쪽에서)
+     * **/
+    private ChatRoomHistory readHistory(Long roomId, Long beforeSeq, int size) {
+        // 최근 메시지 링으로 처리할 수 있으면 Mongo를 조회하지 않는다.
+        List<RecentMessage> recent = recentMessageCache.find(roomId, beforeSeq, size + 1);
+        if (recent != null) {
+            boolean hasNext = recent.size() > size;
+            List<ChatMessageFrame> content = new ArrayList<>(Math.min(recent.size(), size));
+            for (int i = Math.min(recent.size(), size) - 1; i >= 0; i--) {
+                content.add(ChatMessageFrame.from(recent.get(i)));
+            }
+            return new ChatRoomHistory(roomId, content, hasNext);
+        }
+
+        // 정렬은 쿼리에 고정되어 있으므로 limit만 넘긴다.
+        Pageable pageable = PageRequest.of(0, size + 1);
         List<ChatMessage> rows;
 
         if (beforeSeq == null) {
@@ -151,8 +260,8 @@ public class ChatFinderService implements ChatRoomFinder, ChatParticipantFinder,
         // 화면 노출은 보통 오래된→최신 순이 편하므로 ASC로 뒤집기
         Collections.reverse(rows);
 
-        List<ChatMessageDto> content = rows.stream().map(ChatMessageDto::fromEntity).toList();
-        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+        List<ChatMessageFrame> content = rows.stream().map(ChatMessageFrame::from).toList();
+        return new ChatRoomHistory(roomId, content, hasNext);
     }
 
     /**
@@ -171,7 +280,7 @@ public class ChatFinderService implements ChatRoomFinder, ChatParticipantFinder,
      * **/
     @Override
     public boolean isRoomMember(Long roomId, Long memberId) {
-        return chatParticipantRepository.findByChatRoom_IdAndMember_Id(roomId, memberId).isPresent();
+        return chatRosterCache.isMember(roomId, memberId);
     }
 
     /**
@@ -182,10 +291,68 @@ public class ChatFinderService implements ChatRoomFinder, ChatParticipantFinder,
         return chatMessageRepository.findLatestMessageSeq(roomId);
     }
 
-    /** 읽지 않은 메시지 수 계산 */
-    private static long getUnReadCount(ChatParticipant cp, Map<Long, Long> latestSeqMap, Long roomId) {
-        long lastReadSeq = cp.getLastReadSeq();
+    /**
+     * roomId 채팅방 참여자들의 읽음 위치를 조회한다.
+     * Redis에 값이 없는 참여자만 chat_participants에서 읽어 보완하고 Redis에 채워 둔다.
+     * **/
+    @Override
+    public Map<Long, Long> findLastReadSeqs(Long roomId, Collection<Long> memberIds) {
+        Map<Long, Long> lastReadSeqs = new HashMap<>(chatReadCursorRepository.findLastReadSeqs(roomId, memberIds));
+        if (lastReadSeqs.size() == memberIds.size()) {
+            return lastReadSeqs;
+        }
+
+        List<Long> missing = memberIds.stream().filter(id -> !lastReadSeqs.containsKey(id)).toList();
+        List<ChatReadCursor> readCursors = chatParticipantRepository.findReadCursors(roomId, missing);
+        backfillReadCursors(readCursors);
+        for (ChatReadCursor readCursor : readCursors) {
+            lastReadSeqs.put(readCursor.memberId(), readCursor.lastReadSeq());
+        }
+        return lastReadSeqs;
+    }
+
+    /**
+     * memberId가 참여 중인 roomIds 채팅방의 읽음 위치 (참여하지 않은 방은 맵에서 빠진다)
+     * 참여 여부는 명단 캐시로 한 번에 확인하고, Redis에 읽음 위치가 없는 방은 쿼리 한 번으로 보완한다.
+     */
+    private Map<Long, Long> findMyLastReadSeqs(Long memberId, List<Long> roomIds) {
+        Set<Long> joinedRoomIds = chatRosterCache.filterMemberRooms(memberId, roomIds);
+        if (joinedRoomIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Long> lastReadSeqs = new HashMap<>(chatReadCursorRepository.findLastReadSeqsByMember(memberId, joinedRoomIds));
+        List<Long> missing = joinedRoomIds.stream().filter(id -> !lastReadSeqs.containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            List<ChatReadCursor> readCursors = chatParticipantRepository.findReadCursorsByMember(memberId, missing);
+            backfillReadCursors(readCursors);
+            for (ChatReadCursor readCursor : readCursors) {
+                lastReadSeqs.put(readCursor.roomId(), readCursor.lastReadSeq());
+            }
+        }
+        // 명단에는 있지만 chat_participants 행을 찾지 못한 방은 처음부터 읽지 않은 것으로 본다.
+        for (Long roomId : missing) {
+            lastReadSeqs.putIfAbsent(roomId, 0L);
+        }
+        return lastReadSeqs;
+    }
+
+    private void backfillReadCursors(List<ChatReadCursor> readCursors) {
+        try {
+            chatReadCursorRepository.backfill(readCursors);
+        } catch (Exception e) {
+            // 보완은 다음 조회에서 다시 시도하면 되므로 조회 결과에는 영향을 주지 않는다.
+            log.warn("읽음 위치 Redis 보완 실패 (count={})", readCursors.size(), e);
+        }
+    }
+
+    /** 읽지 않은 메시지 수 계산 (참여하지 않은 방은 0) */
+    private static long getUnReadCount(Long roomId, Map<Long, Long> latestSeqMap, Map<Long, Long> lastReadSeqMap) {
+        Long lastReadSeq = lastReadSeqMap.get(roomId);
+        if (lastReadSeq == null) {
+            return 0L;
+        }
         long latestSeq = latestSeqMap.getOrDefault(roomId, 0L);
         return Math.max(latestSeq - lastReadSeq, 0L);
     }
-}
\ No newline at end of file
+}
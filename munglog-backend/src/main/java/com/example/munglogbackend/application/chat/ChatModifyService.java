@@ -1,19 +1,29 @@
 package com.example.munglogbackend.application.chat;
 
 import com.example.munglogbackend.application.chat.provided.ChatMessageFinder;
-import com.example.munglogbackend.application.chat.provided.ChatParticipantFinder;
 import com.example.munglogbackend.application.chat.provided.ChatRoomFinder;
 import com.example.munglogbackend.application.chat.provided.ChatSaver;
 import com.example.munglogbackend.application.chat.required.ChatMessageRepository;
+import com.example.munglogbackend.application.chat.required.ChatReadCursorRepository;
 import com.example.munglogbackend.application.chat.required.ChatRoomRepository;
+import com.example.munglogbackend.application.chat.required.ChatRoomStateRepository;
 import com.example.munglogbackend.application.member.provided.MemberFinder;
 import com.example.munglogbackend.application.chat.dto.ChatMessageDto;
-import com.example.munglogbackend.application.chat.dto.ChatRoomSummary;
+import com.example.munglogbackend.application.chat.cache.ChatRoster;
+import com.example.munglogbackend.application.chat.cache.ChatRosterCache;
+import com.example.munglogbackend.application.chat.cache.RecentMessageCache;
+import com.example.munglogbackend.application.chat.event.ChatMessageSentEvent;
+import com.example.munglogbackend.application.chat.event.ChatRosterChangedEvent;
+import com.example.munglogbackend.application.chat.fanout.InFlightSeqTracker;
+import com.example.munglogbackend.config.monitoring.ChatSendStage;
+import com.example.munglogbackend.config.monitoring.ChatSendTracer;
+import com.example.munglogbackend.config.monitoring.ChatSendTracer.ChatSendTrace;
+import com.example.munglogbackend.config.monitoring.MessageTimerType;
 import com.example.munglogbackend.config.monitoring.WebSocketMetricsConfig;
 import com.example.munglogbackend.domain.chat.entity.ChatMessage;
-import com.example.munglogbackend.domain.chat.entity.ChatParticipant;
 import com.example.munglogbackend.domain.chat.entity.ChatRoom;
 import com.example.munglogbackend.domain.chat.enumerate.ChatRoomType;
+import com.example.munglogbackend.domain.chat.enumerate.MessageType;
 import com.example.munglogbackend.domain.chat.exception.ChatErrorType;
 import com.example.munglogbackend.domain.chat.exception.ChatException;
 import com.example.munglogbackend.domain.member.Member;
@@ -21,10 +31,11 @@ import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.*;
 
 @Slf4j
@@ -35,14 +46,18 @@ public class ChatModifyService implements ChatSaver {
     private final MemberFinder memberFinder;
     private final ChatRoomFinder chatRoomFinder;
     private final ChatMessageFinder chatMessageFinder;
-    private final ChatParticipantFinder chatParticipantFinder;
 
     private final ChatRoomRepository chatRoomRepository;
     private final ChatMessageRepository chatMessageRepository;
-    private final ChatSeqGenerator chatSeqGenerator;
+    private final ChatRoomStateRepository chatRoomStateRepository;
+    private final ChatReadCursorRepository chatReadCursorRepository;
+    private final ChatRosterCache chatRosterCache;
+    private final RecentMessageCache recentMessageCache;
+    private final InFlightSeqTracker inFlightSeqTracker;
 
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ApplicationEventPublisher eventPublisher;
     private final WebSocketMetricsConfig metricsConfig;
+    private final ChatSendTracer chatSendTracer;
 
     @Override
     public Long createPrivateChatRoom(Long memberAId, Long memberBId) {
@@ -56,6 +71,7 @@ public class ChatModifyService implements ChatSaver {
 
         ChatRoom chatRoom = ChatRoom.createPrivateChatRoom(memberA, memberB);
         ChatRoom newChatRoom = chatRoomRepository.save(chatRoom);
+        eventPublisher.publishEvent(new ChatRosterChangedEvent(newChatRoom.getId(), List.of(memberAId, memberBId)));
 
         return newChatRoom.getId();
     }
@@ -76,6 +92,7 @@ public class ChatModifyService implements ChatSaver {
 
         ChatRoom chatRoom = ChatRoom.createGroupChatRoom(members);
         chatRoomRepository.save(chatRoom);
+        eventPublisher.publishEvent(new ChatRosterChangedEvent(chatRoom.getId(), uniqueMemberIds));
         return chatRoom.getId();
     }
 
@@ -89,59 +106,74 @@ public class ChatModifyService implements ChatSaver {
         }
 
         chatRoom.addMember(member);
+        eventPublisher.publishEvent(new ChatRosterChangedEvent(roomId, List.of(memberId)));
     }
 
     @Override
     public ChatMessage sendMessage(ChatMessageDto request) {
         Timer.Sample sample = metricsConfig.startTimer();
+        Instant receivedAt = Instant.now();
+        ChatSendTrace trace = chatSendTracer.start(request.roomId());
+        long seq = 0L;
+        boolean persisted = false;
 
         try {
-            // 채팅방 및 발신자 검증
-            ChatRoom chatRoom = chatRoomFinder.findRoomByRoomId(request.roomId());
-            Member sender = memberFinder.findActiveById(request.senderId());
-            chatParticipantFinder.findByRoomIdAndMemberId(chatRoom.getId(), sender.getId());
-
-            // 채팅 메시지 저장
-            long seq = chatSeqGenerator.nextSeq(chatRoom.getId());
-            ChatMessage chatMessage = ChatMessage.create(request, seq, chatRoom.getId(), sender.getId());
+            long stageStart = System.nanoTime();
+
+            // 메시지 형식 검증
+            MessageType messageType = ChatMessage.validate(request);
+
+            // 채팅방 및 발신자 검증 (참가자 명단 캐시, 탈퇴 회원은 명단에 포함되지 않음)
+            ChatRoster roster = chatRosterCache.get(request.roomId());
+            if (!roster.exists()) {throw new ChatException(ChatErrorType.CHAT_ROOM_NOT_FOUND);}
+            if (!roster.contains(request.senderId())) {throw new ChatException(ChatErrorType.NOT_INCLUDED_IN_CHAT_ROOM);}
+            stageStart = recordStage(ChatSendStage.VALIDATE, stageStart, trace);
+
+            // seq 발급
+            Instant createdAt = Instant.now();
+            seq = chatRoomStateRepository.reserveSeq(request.roomId());
+            // 커밋 후 레인에 들어갈 때까지 팬아웃이 이 seq 뒤의 메시지를 붙잡아 두도록 기록
+            inFlightSeqTracker.begin(request.roomId(), seq);
+            stageStart = recordStage(ChatSendStage.SEQ, stageStart, trace);
+
+            // 채팅 메시지 저장 (Redis 상태보다 먼저 저장해 저장되지 않은 메시지가 마지막 메시지나 읽음 위치로 남지 않게 한다)
+            ChatMessage chatMessage = ChatMessage.create(request, seq, request.roomId(), request.senderId(), createdAt);
             ChatMessage saved = chatMessageRepository.save(chatMessage);
-            chatRoom.updateLastMessage(saved.getCreatedAt(), saved.getContent());
-
-            // 발신자 본인의 읽음 처리 업데이트
-            updateLastRead(request.roomId(), request.senderId());
-            long currentSeq = chatMessageFinder.findLatestMessageSeq(request.roomId());
-
-            // STOMP 채팅방으로 브로드캐스트
-            String destination = "/topic/chat.room." + request.roomId();
-            messagingTemplate.convertAndSend(destination, toPayload(chatMessage));
-
-            // 메시지 전송 카운트 추가
-            metricsConfig.recordMessageSent("chat_message", true);
-
-            // 채팅방 요약 정보 개인 토픽으로 전송
-            List<ChatParticipant> chatRoomMembers = chatParticipantFinder.findChatParticipants(request.roomId());
-            for (ChatParticipant participant : chatRoomMembers) {
-                Long memberId = participant.getMember().getId();
-
-                // 읽지 않은 메시지 수 계산
-                long unread = getUnreadMessageCount(request, participant, memberId, currentSeq);
-
-                String userDestination = "/topic/user." + memberId + ".room-summary";
-                messagingTemplate.convertAndSend(userDestination, ChatRoomSummary.of(chatRoom, unread, chatRoom.getChatRoomType(), chatRoom.getLastMessagePreview(), chatRoom.getLastMessageAt()));
-
-                // 개인 토픽 전송도 카운트
-                metricsConfig.recordMessageSent("user_room_summary", false);
-
-                log.info("📡 [convertAndSend] 개인 토픽 전송: /topic/user.{}.room-summary", memberId);
+            persisted = true;
+
+            // 마지막 메시지 + 발신자 읽음 위치 + 최근 메시지 링을 Redis 스크립트 한 번으로 반영
+            // (chat_rooms, chat_participants는 ChatRoomStateSyncer, ChatReadCursorFlusher가 주기적으로 반영)
+            ChatMessageDto recent = new ChatMessageDto(request.roomId(), request.senderId(), messageType, request.content(),
+                    request.fileUrl(), request.fileName(), request.fileSize(), createdAt);
+            try {
+                chatRoomStateRepository.appendMessage(request.roomId(), seq, request.senderId(), request.content(),
+                        createdAt, recentMessageCache.encodeEntry(recent));
+            } catch (Exception e) {
+                // 메시지는 이미 저장되었으므로 전송은 계속한다. (마지막 메시지는 다음 메시지 때, 링은 재적재 때 맞춰진다)
+                log.warn("메시지 상태 반영 실패 (roomId={}, seq={})", request.roomId(), seq, e);
             }
+            recentMessageCache.appendLocal(request.roomId(), seq, recent);
+            recordStage(ChatSendStage.PERSIST, stageStart, trace);
+
+            // 브로드캐스트와 개인 토픽 요약 전송은 커밋 이후 팬아웃 단계에서 처리
+            eventPublisher.publishEvent(ChatMessageSentEvent.of(saved, roster.chatRoomType(), receivedAt, trace));
             return chatMessage;
 
         } catch (Exception e) {
+            // 발급만 되고 저장되지 않은 seq는 최근 메시지 링에서 빈자리로 기록한다.
+            if (seq > 0 && !persisted) {
+                recentMessageCache.discard(request.roomId(), seq);
+            }
+            // 팬아웃에 들어가지 않을 seq이므로 뒤의 메시지를 기다리게 하지 않는다.
+            if (seq > 0) {
+                inFlightSeqTracker.end(request.roomId(), seq);
+            }
             metricsConfig.recordMessageFailure();
             log.error("메시지 전송 실패", e);
             throw e;
         } finally {
-            metricsConfig.stopTimer(sample, "send_message");
+            metricsConfig.stopTimer(sample, MessageTimerType.SEND_MESSAGE);
+            trace.end();
         }
     }
 
@@ -154,47 +186,27 @@ public class ChatModifyService implements ChatSaver {
         if(chatRoom.getMembers().isEmpty()) {
             chatRoomRepository.delete(chatRoom);
         }
+        eventPublisher.publishEvent(new ChatRosterChangedEvent(roomId, List.of(memberId)));
     }
 
     @Override
     public void updateLastRead(Long roomId, Long memberId) {
-        chatRoomFinder.findRoomByRoomId(roomId);
-        ChatParticipant participant = chatParticipantFinder.findByRoomIdAndMemberId(roomId, memberId);
-        long lastReadSeq = chatMessageFinder.findLatestMessageSeq(roomId);
-
-        participant.updateLastRead(lastReadSeq);
-    }
+        ChatRoster roster = chatRosterCache.get(roomId);
+        if (!roster.exists()) {throw new ChatException(ChatErrorType.CHAT_ROOM_NOT_FOUND);}
+        if (!roster.contains(memberId)) {throw new ChatException(ChatErrorType.NOT_INCLUDED_IN_CHAT_ROOM);}
 
-    private Map<String, Object> toPayload(ChatMessage m) {
-        Map<String, Object> payload = new HashMap<>();
-
-        payload.put("roomId",   m.getRoomId());                 // 반드시 값 있음
-        payload.put("senderId", m.getSenderId());               // 반드시 값 있음
-        payload.put("type",     m.getType().name());     // enum은 name()로 문자열 전송 권장
-        payload.put("seq",      m.getSeq());
-        payload.put("createdAt", m.getCreatedAt());
-
-        // TEXT/SYSTEM일 때만 content
-        if (m.getContent() != null && !m.getContent().isBlank()) {
-            payload.put("content", m.getContent());
-        }
-        // IMAGE/VIDEO/FILE일 때만 파일 정보
-        if (m.getFileUrl() != null && !m.getFileUrl().isBlank()) {
-            payload.put("fileUrl", m.getFileUrl());
-        }
-        if (m.getFileName() != null && !m.getFileName().isBlank()) {
-            payload.put("fileName", m.getFileName());
-        }
-        if (m.getFileSize() != null) {
-            payload.put("fileSize", m.getFileSize());
-        }
-
-        return payload;
+        // 읽음 위치는 Redis에 기록하고 chat_participants에는 ChatReadCursorFlusher가 일괄 반영
+        long lastReadSeq = chatMessageFinder.findLatestMessageSeq(roomId);
+        chatReadCursorRepository.advance(roomId, memberId, lastReadSeq, Instant.now());
     }
 
-    private static long getUnreadMessageCount(ChatMessageDto request, ChatParticipant participant, Long memberId, long currentSeq) {
-        long lastReadSeq = Optional.ofNullable(participant.getLastReadSeq()).orElse(0L);
-        long unread = memberId.equals(request.senderId()) ? 0L : Math.max(0, currentSeq - lastReadSeq);
-        return unread;
+    /**
+     * 단계 소요 시간을 기록하고(샘플링된 경우 span 포함) 다음 단계의 시작 시각을 반환한다.
+     */
+    private long recordStage(ChatSendStage stage, long stageStart, ChatSendTrace trace) {
+        long now = System.nanoTime();
+        metricsConfig.recordStage(stage, now - stageStart);
+        trace.stage(stage, stageStart, now);
+        return now;
     }
 }
@@ -0,0 +1,70 @@
+package com.example.munglogbackend.application.chat;
+
+import com.example.munglogbackend.application.chat.dto.ChatReadCursor;
+import com.example.munglogbackend.application.chat.required.ChatParticipantRepository;
+import com.example.munglogbackend.application.chat.required.ChatReadCursorRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Redis 읽음 위치를 chat_participants에 일괄 반영하는 write-behind 플러셔
+ * - flush-interval-ms 주기로 변경된 읽음 위치를 batch-size씩 꺼내 JDBC 배치 UPDATE로 반영한다.
+ * - 애플리케이션 종료 시에도 남은 읽음 위치를 모두 반영한다.
+ * - 반영에 실패한 읽음 위치는 대기 목록에 되돌려 다음 주기에 다시 시도한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatReadCursorFlusher {
+    private final ChatReadCursorRepository chatReadCursorRepository;
+    private final ChatParticipantRepository chatParticipantRepository;
+
+    @Value("${chat.read-cursor.flush-batch-size:1000}")
+    private int batchSize;
+
+    // 한 주기에 처리할 최대 배치 수 (대기 목록이 계속 쌓이는 경우 스케줄러 스레드 점유 방지)
+    @Value("${chat.read-cursor.flush-max-batches:10}")
+    private int maxBatches;
+
+    @Scheduled(fixedDelayString = "${chat.read-cursor.flush-interval-ms:5000}")
+    public void flush() {
+        flush(maxBatches);
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush(Integer.MAX_VALUE);
+    }
+
+    private void flush(int batches) {
+        int flushed = 0;
+        for (int i = 0; i < batches; i++) {
+            List<ChatReadCursor> readCursors = chatReadCursorRepository.popDirty(batchSize);
+            if (readCursors.isEmpty()) {
+                break;
+            }
+
+            try {
+                flushed += chatParticipantRepository.batchUpdateLastRead(readCursors);
+            } catch (Exception e) {
+                chatReadCursorRepository.restoreDirty(readCursors);
+                log.error("읽음 위치 반영 실패 (count={})", readCursors.size(), e);
+                return;
+            }
+
+            if (readCursors.size() < batchSize) {
+                break;
+            }
+        }
+
+        if (flushed > 0) {
+            log.debug("읽음 위치 반영 완료 (updated={})", flushed);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.munglogbackend.application.chat;
+
+import com.example.munglogbackend.application.chat.dto.ChatRoomState;
+import com.example.munglogbackend.application.chat.required.ChatRoomRepository;
+import com.example.munglogbackend.application.chat.required.ChatRoomStateRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Redis에 먼저 기록된 채팅방의 마지막 메시지(chat_rooms.last_message_at, last_message_preview)를
+ * Postgres에 주기적으로 반영한다.
+ * - interval-ms 주기로 대기 목록이 빌 때까지 batch-size씩 꺼내 반영한다. (한 주기 최대 max-batches개)
+ * - 애플리케이션 종료 시에도 남은 방을 모두 반영한다.
+ * - 값이 앞으로 움직일 때만 적용되므로 순서가 뒤바뀌거나 같은 방을 다시 반영해도 안전하다.
+ * 읽음 위치는 ChatReadCursorFlusher가 따로 반영한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatRoomStateSyncer {
+    private final ChatRoomStateRepository chatRoomStateRepository;
+    private final ChatRoomRepository chatRoomRepository;
+
+    @Value("${chat.state-sync.batch-size:500}")
+    private int batchSize;
+
+    // 한 주기에 처리할 최대 배치 수 (대기 목록이 계속 쌓이는 경우 스케줄러 스레드 점유 방지)
+    @Value("${chat.state-sync.max-batches:10}")
+    private int maxBatches;
+
+    @Scheduled(fixedDelayString = "${chat.state-sync.interval-ms:5000}")
+    public void sync() {
+        sync(maxBatches);
+    }
+
+    @PreDestroy
+    void syncOnShutdown() {
+        sync(Integer.MAX_VALUE);
+    }
+
+    private void sync(int batches) {
+        int synced = 0;
+        for (int i = 0; i < batches; i++) {
+            List<Long> roomIds = chatRoomStateRepository.popDirtyRoomIds(batchSize);
+            if (roomIds.isEmpty()) {
+                break;
+            }
+
+            try {
+                for (Long roomId : roomIds) {
+                    chatRoomStateRepository.findState(roomId)
+                            .filter(state -> state.lastMessageAt() != null)
+                            .ifPresent(this::syncRoom);
+                }
+                synced += roomIds.size();
+            } catch (Exception e) {
+                // 다음 주기에 다시 시도할 수 있도록 대기 목록에 되돌린다.
+                chatRoomStateRepository.restoreDirtyRooms(roomIds);
+                log.error("채팅방 상태 동기화 실패 (rooms={})", roomIds.size(), e);
+                return;
+            }
+
+            if (roomIds.size() < batchSize) {
+                break;
+            }
+        }
+
+        if (synced > 0) {
+            log.debug("채팅방 상태 동기화 완료 (rooms={})", synced);
+        }
+    }
+
+    private void syncRoom(ChatRoomState state) {
+        chatRoomRepository.updateLastMessage(state.roomId(), state.lastMessageAt(), state.lastMessagePreview());
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.munglogbackend.application.chat.cache;
+
+import com.example.munglogbackend.application.chat.dto.ChatInboxCursor;
+import com.example.munglogbackend.application.chat.dto.ChatInboxRoom;
+import com.example.munglogbackend.application.chat.event.ChatRosterChangedEvent;
+import com.example.munglogbackend.application.chat.required.ChatInboxRepository;
+import com.example.munglogbackend.application.chat.required.ChatParticipantRepository;
+import com.example.munglogbackend.config.monitoring.CacheMetricsConfig;
+import com.example.munglogbackend.domain.chat.entity.ChatParticipant;
+import com.example.munglogbackend.domain.chat.entity.ChatRoom;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 회원별 inbox 인덱스 관리
+ * - 내 채팅방 목록은 inbox(sorted set)와 방별 상태를 파이프라인으로 읽어 DB 조회 없이 만든다.
+ * - inbox가 없거나 만료되었으면 chat_participants에서 다시 만든다.
+ * - 채팅방 참여/나가기가 커밋되면 해당 회원의 inbox를 지워 다음 조회 때 다시 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatInboxCache {
+    public static final String CACHE_NAME = "chat_inbox";
+
+    private final ChatInboxRepository chatInboxRepository;
+    private final ChatParticipantRepository chatParticipantRepository;
+    private final ChatRosterCache chatRosterCache;
+    private final CacheMetricsConfig cacheMetrics;
+
+    @Value("${chat.inbox.ttl-hours:72}")
+    private long ttlHours;
+
+    /**
+     * before 이후의 채팅방을 최신 메시지 순으로 최대 count개 조회한다.
+     */
+    public List<ChatInboxRoom> findPage(Long memberId, ChatInboxCursor before, int count) {
+        Duration ttl = Duration.ofHours(ttlHours);
+        Optional<List<ChatInboxRoom>> page = chatInboxRepository.findPage(memberId, before, count, ttl);
+
+        if (page.isPresent()) {
+            cacheMetrics.recordHit(CACHE_NAME);
+        } else {
+            cacheMetrics.recordMiss(CACHE_NAME);
+            rebuild(memberId, ttl);
+            page = chatInboxRepository.findPage(memberId, before, count, ttl);
+        }
+
+        return page.orElse(List.of()).stream()
+                .map(room -> room.chatRoomType() != null
+                        ? room
+                        : room.withChatRoomType(chatRosterCache.get(room.roomId()).chatRoomType()))
+                .toList();
+    }
+
+    /**
+     * 새 메시지가 도착한 채팅방을 참가자 inbox의 맨 앞으로 올린다.
+     */
+    public void touch(Long roomId, Collection<Long> memberIds, Instant lastMessageAt) {
+        chatInboxRepository.touch(roomId, memberIds, lastMessageAt);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRosterChanged(ChatRosterChangedEvent event) {
+        try {
+            chatInboxRepository.invalidate(event.memberIds());
+        } catch (Exception e) {
+            log.warn("inbox 무효화 실패 (roomId={}, memberIds={})", event.roomId(), event.memberIds(), e);
+        }
+    }
+
+    private void rebuild(Long memberId, Duration ttl) {
+        List<ChatInboxRoom> rooms = chatParticipantRepository.findAllByMember_Id(memberId).stream()
+                .map(ChatInboxCache::toInboxRoom)
+                .toList();
+        chatInboxRepository.rebuild(memberId, rooms, ttl);
+        log.debug("inbox 재생성 (memberId={}, rooms={})", memberId, rooms.size());
+    }
+
+    private static ChatInboxRoom toInboxRoom(ChatParticipant participant) {
+        ChatRoom room = participant.getChatRoom();
+        Instant lastMessageAt = room.getLastMessageAt();
+        return new ChatInboxRoom(
+                room.getId(),
+                lastMessageAt == null ? 0L : lastMessageAt.toEpochMilli(),
+                room.getChatRoomType(),
+                0L,
+                lastMessageAt,
+                room.getLastMessagePreview(),
+                Optional.ofNullable(participant.getLastReadSeq()).orElse(0L)
+        );
+    }
+}
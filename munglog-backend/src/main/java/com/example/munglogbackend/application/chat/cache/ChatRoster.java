@@ -0,0 +1,34 @@
+package com.example.munglogbackend.application.chat.cache;
+
+import com.example.munglogbackend.domain.chat.enumerate.ChatRoomType;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 채팅방 참가자 명단 스냅샷
+ * - memberIds는 정렬된 long 배열로 보관해 이진 탐색으로 멤버 여부를 확인한다.
+ * - 존재하지 않는 채팅방은 chatRoomType이 null인 빈 명단으로 표현한다.
+ */
+public record ChatRoster(ChatRoomType chatRoomType, long[] memberIds) {
+    public static ChatRoster of(ChatRoomType chatRoomType, Collection<Long> memberIds) {
+        long[] ids = memberIds.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+        return new ChatRoster(chatRoomType, ids);
+    }
+
+    public static ChatRoster missing() {
+        return new ChatRoster(null, new long[0]);
+    }
+
+    public boolean exists() {
+        return chatRoomType != null;
+    }
+
+    public boolean contains(Long memberId) {
+        return memberId != null && Arrays.binarySearch(memberIds, memberId) >= 0;
+    }
+
+    public int size() {
+        return memberIds.length;
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.munglogbackend.application.chat.cache;
+
+import com.example.munglogbackend.application.chat.event.ChatRosterChangedEvent;
+import com.example.munglogbackend.application.chat.required.ChatParticipantRepository;
+import com.example.munglogbackend.application.chat.required.ChatRoomRepository;
+import com.example.munglogbackend.config.monitoring.CacheMetricsConfig;
+import com.example.munglogbackend.domain.chat.enumerate.ChatRoomType;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * roomId별 참가자 명단을 메모리에 보관하는 캐시
+ * - 메시지 전송, SUBSCRIBE 시 멤버 여부 확인을 DB 조회 없이 처리한다.
+ * - 명단이 바뀌면 커밋 이후 로컬 캐시를 비우고 Redis pub/sub으로 다른 노드에도 무효화를 전파한다.
+ * - 전파가 유실되는 경우를 대비해 ttl-seconds가 지난 명단은 다시 읽는다.
+ * - max-rooms를 넘으면 Caffeine이 사용 빈도가 낮은 명단부터 비운다.
+ * - 명단에서 파생된 다른 캐시(세션별 구독 권한 등)는 addEvictionListener로 무효화를 함께 받는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRosterCache implements MessageListener {
+    public static final String CACHE_NAME = "chat_roster";
+    private static final String INVALIDATION_CHANNEL = "chat:roster:invalidate";
+
+    private final ChatParticipantRepository chatParticipantRepository;
+    private final ChatRoomRepository chatRoomRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final CacheMetricsConfig cacheMetrics;
+
+    @Value("${chat.roster-cache.max-rooms:10000}")
+    private int maxRooms;
+
+    @Value("${chat.roster-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private Cache<Long, ChatRoster> rosters;
+
+    // 로딩 도중 무효화가 일어났는지 판별하기 위한 세대 번호
+    private final AtomicLong generation = new AtomicLong();
+
+    private final List<Consumer<Long>> evictionListeners = new CopyOnWriteArrayList<>();
+
+    @PostConstruct
+    void subscribe() {
+        rosters = Caffeine.newBuilder()
+                .maximumSize(maxRooms)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .evictionListener(cacheMetrics.<Long, ChatRoster>evictionRecorder(CACHE_NAME))
+                .build();
+        cacheMetrics.registerSize(CACHE_NAME, rosters.asMap());
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * roomId의 참가자 명단을 조회한다. 캐시에 없으면 DB에서 읽어 채운다.
+     */
+    public ChatRoster get(Long roomId) {
+        ChatRoster cached = rosters.getIfPresent(roomId);
+        if (cached != null) {
+            cacheMetrics.recordHit(CACHE_NAME);
+            return cached;
+        }
+
+        cacheMetrics.recordMiss(CACHE_NAME);
+        long loadGeneration = generation.get();
+        ChatRoster loaded = load(roomId);
+
+        // 로딩 중에 무효화가 있었다면 오래된 명단일 수 있으므로 캐시에 넣지 않는다.
+        if (loadGeneration == generation.get()) {
+            rosters.put(roomId, loaded);
+        }
+        return loaded;
+    }
+
+    public boolean isMember(Long roomId, Long memberId) {
+        return get(roomId).contains(memberId);
+    }
+
+    /**
+     * roomIds 중 memberId가 구성원인 방만 골라낸다.
+     * 캐시에 있는 명단으로 먼저 확인하고, 나머지 방은 쿼리 한 번으로 확인한다.
+     * (회원 한 명의 참여 여부만 읽으므로 명단 캐시는 채우지 않는다)
+     */
+    public Set<Long> filterMemberRooms(Long memberId, Collection<Long> roomIds) {
+        Set<Long> memberRooms = new HashSet<>();
+        List<Long> unknown = new ArrayList<>();
+        for (Long roomId : roomIds) {
+            ChatRoster cached = rosters.getIfPresent(roomId);
+            if (cached != null) {
+                cacheMetrics.recordHit(CACHE_NAME);
+                if (cached.contains(memberId)) {
+                    memberRooms.add(roomId);
+                }
+            } else {
+                cacheMetrics.recordMiss(CACHE_NAME);
+                unknown.add(roomId);
+            }
+        }
+
+        if (!unknown.isEmpty()) {
+            memberRooms.addAll(chatParticipantRepository.findActiveChatRoomIdsByMemberId(memberId, unknown));
+        }
+        return memberRooms;
+    }
+
+    public void evict(Long roomId) {
+        generation.incrementAndGet();
+        if (rosters.asMap().remove(roomId) != null) {
+            cacheMetrics.recordEviction(CACHE_NAME);
+        }
+        for (Consumer<Long> listener : evictionListeners) {
+            listener.accept(roomId);
+        }
+    }
+
+    /**
+     * roomId 명단이 무효화될 때(로컬 변경, 다른 노드 전파 모두) 호출될 리스너를 등록한다.
+     */
+    public void addEvictionListener(Consumer<Long> listener) {
+        evictionListeners.add(listener);
+    }
+
+    /**
+     * 명단 변경이 커밋된 뒤 로컬 캐시를 비우고 다른 노드에 알린다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRosterChanged(ChatRosterChangedEvent event) {
+        evict(event.roomId());
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(event.roomId()));
+        } catch (Exception e) {
+            log.warn("참가자 명단 무효화 전파 실패 (roomId={})", event.roomId(), e);
+        }
+    }
+
+    /**
+     * 다른 노드(자기 자신 포함)에서 전파된 무효화 메시지 처리
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            evict(Long.parseLong(body));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 명단 무효화 메시지: {}", body);
+        }
+    }
+
+    private ChatRoster load(Long roomId) {
+        Optional<ChatRoomType> chatRoomType = chatRoomRepository.findChatRoomTypeById(roomId);
+        if (chatRoomType.isEmpty()) {
+            return ChatRoster.missing();
+        }
+
+        List<Long> memberIds = chatParticipantRepository.findActiveMemberIdsByChatRoomId(roomId);
+        return ChatRoster.of(chatRoomType.get(), memberIds);
+    }
+}
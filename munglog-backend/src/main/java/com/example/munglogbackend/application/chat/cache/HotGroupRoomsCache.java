@@ -0,0 +1,64 @@
+package com.example.munglogbackend.application.chat.cache;
+
+import com.example.munglogbackend.application.chat.dto.ChatRoomListing;
+import com.example.munglogbackend.application.chat.required.ChatRoomRepository;
+import com.example.munglogbackend.config.monitoring.CacheMetricsConfig;
+import com.example.munglogbackend.domain.chat.enumerate.ChatRoomType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 그룹 채팅방 목록 첫 페이지(최근 메시지 순 상위 page-size개) 스냅샷
+ * - 대부분의 목록 요청은 첫 페이지이므로 refresh-ms 주기로 미리 읽어 두고 DB 조회 없이 응답한다.
+ * - 스냅샷은 최대 refresh-ms만큼 늦을 수 있으며, 두 번째 페이지부터는 항상 DB에서 조회한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HotGroupRoomsCache {
+    public static final String CACHE_NAME = "chat_hot_group_rooms";
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final CacheMetricsConfig cacheMetrics;
+
+    @Value("${chat.group-directory.hot-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${chat.group-directory.hot-cache.page-size:100}")
+    private int pageSize;
+
+    // hasNext 판단을 위해 pageSize + 1개를 보관한다.
+    private volatile List<ChatRoomListing> snapshot;
+
+    /**
+     * 첫 페이지를 limit개 조회한다. 스냅샷으로 응답할 수 없으면 null을 반환한다.
+     */
+    public List<ChatRoomListing> findFirstPage(int limit) {
+        List<ChatRoomListing> current = snapshot;
+        if (!enabled || current == null || limit > pageSize + 1) {
+            cacheMetrics.recordMiss(CACHE_NAME);
+            return null;
+        }
+
+        cacheMetrics.recordHit(CACHE_NAME);
+        return current.size() <= limit ? current : current.subList(0, limit);
+    }
+
+    @Scheduled(fixedDelayString = "${chat.group-directory.hot-cache.refresh-ms:10000}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            snapshot = List.copyOf(chatRoomRepository.findListingsByType(ChatRoomType.GROUP, null, pageSize + 1));
+        } catch (Exception e) {
+            log.warn("그룹 채팅방 첫 페이지 갱신 실패", e);
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package com.example.munglogbackend.application.chat.cache;
+
+import com.example.munglogbackend.application.chat.dto.ChatMessageDto;
+import com.example.munglogbackend.application.chat.dto.ChatRoomState;
+import com.example.munglogbackend.application.chat.dto.RecentMessage;
+import com.example.munglogbackend.application.chat.dto.RecentMessageWindow;
+import com.example.munglogbackend.application.chat.required.ChatMessageRepository;
+import com.example.munglogbackend.application.chat.required.ChatRecentMessageRepository;
+import com.example.munglogbackend.application.chat.required.ChatRoomStateRepository;
+import com.example.munglogbackend.application.chat.required.RecentMessageCodec;
+import com.example.munglogbackend.config.monitoring.CacheMetricsConfig;
+import com.example.munglogbackend.domain.chat.entity.ChatMessage;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 채팅방별 최근 메시지 링 캐시 (메모리 LRU + Redis)
+ * - 채팅방 입장 시의 첫 페이지와 링 범위 안의 beforeSeq 조회를 Mongo 없이 처리한다.
+ * - beforeSeq가 메모리 링 안에 있으면 링만으로 응답한다. (그 아래 구간은 새 메시지로 바뀌지 않으므로 최신 여부를 확인하지 않는다)
+ * - 첫 페이지는 링이 저장 완료된 마지막 seq(상태 해시 last_seq)까지 반영되어 있을 때만 사용한다.
+ *   발급만 되고 아직 저장 중인 seq는 기다리지 않는다.
+ * - 링으로 처리할 수 없으면 null을 반환해 호출 측이 요청한 만큼만 Mongo에서 읽게 하고, 링은 별도 스레드에서 다시 채운다.
+ * - 저장에 실패한 seq는 빈자리(holes)로 기록해 누락으로 보지 않는다. Mongo에서 다시 채울 때 hole-grace-seconds보다
+ *   오래 비어 있는 seq(발급 후 저장되지 못한 seq)도 빈자리로 기록한다.
+ * - Redis 링 교체는 Lua 스크립트로 메시지 추가와 원자적으로 실행하며, 그 사이 seq가 바뀌었으면 교체하지 않는다.
+ * - 메모리 링은 max-rooms개까지만 보관하며 가장 오래 사용하지 않은 방부터 비운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecentMessageCache {
+    public static final String LOCAL_CACHE_NAME = "chat_recent_messages_local";
+    public static final String REDIS_CACHE_NAME = "chat_recent_messages_redis";
+
+    private final ChatRecentMessageRepository chatRecentMessageRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatRoomStateRepository chatRoomStateRepository;
+    private final RecentMessageCodec recentMessageCodec;
+    private final CacheMetricsConfig cacheMetrics;
+
+    @Value("${chat.recent-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${chat.recent-cache.size:200}")
+    private int capacity;
+
+    @Value("${chat.recent-cache.max-rooms:2000}")
+    private int maxRooms;
+
+    @Value("${chat.recent-cache.redis-ttl-minutes:60}")
+    private long redisTtlMinutes;
+
+    @Value("${chat.recent-cache.hole-grace-seconds:30}")
+    private long holeGraceSeconds;
+
+    // 링 재적재 대기 큐 크기 (가득 차면 이번 재적재는 건너뛰고 다음 조회 때 다시 시도한다)
+    @Value("${chat.recent-cache.refill-queue-capacity:256}")
+    private int refillQueueCapacity;
+
+    private ThreadPoolTaskExecutor refillExecutor;
+
+    // 재적재가 예약되었거나 진행 중인 방 (같은 방을 중복으로 읽지 않는다)
+    private final Set<Long> refilling = ConcurrentHashMap.newKeySet();
+
+    // 접근 순서 LinkedHashMap으로 LRU를 구성한다. (모든 접근은 windowsLock으로 보호)
+    // 가상 스레드에서 호출되어도 캐리어 스레드가 고정(pinning)되지 않도록 synchronized 대신 ReentrantLock을 쓴다.
+    private final ReentrantLock windowsLock = new ReentrantLock();
+    private final Map<Long, RecentMessageWindow> windows = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, RecentMessageWindow> eldest) {
+            if (size() > maxRooms) {
+                cacheMetrics.recordEviction(LOCAL_CACHE_NAME);
+                return true;
+            }
+            return false;
+        }
+    };
+
+    @PostConstruct
+    void init() {
+        cacheMetrics.registerSize(LOCAL_CACHE_NAME, windows);
+
+        refillExecutor = new ThreadPoolTaskExecutor();
+        refillExecutor.setCorePoolSize(1);
+        refillExecutor.setMaxPoolSize(1);
+        refillExecutor.setQueueCapacity(refillQueueCapacity);
+        refillExecutor.setThreadNamePrefix("chat-recent-refill-");
+        refillExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        refillExecutor.initialize();
+    }
+
+    @PreDestroy
+    void shutdownRefillExecutor() {
+        refillExecutor.shutdown();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Redis 링에 함께 저장할 항목 본문 (appendMessage 스크립트에 전달)
+     */
+    public String encodeEntry(ChatMessageDto message) {
+        return enabled ? recentMessageCodec.encodeBody(message) : null;
+    }
+
+    /**
+     * beforeSeq 이전(null이면 최신) 메시지를 최신 순으로 count개 조회한다.
+     * 링으로 처리할 수 없으면 null을 반환하며, 호출 측에서 Mongo를 조회한다.
+     */
+    public List<RecentMessage> find(Long roomId, Long beforeSeq, int count) {
+        if (!enabled || count > capacity) {
+            return null;
+        }
+
+        // 1) 메모리 링 안쪽의 이전 페이지: 메모리 링은 빠진 seq가 없을 때만 보관하므로 Redis를 확인하지 않는다.
+        //    링보다 오래된 구간이면 slice가 null이므로 재적재 없이 바로 Mongo로 보낸다.
+        RecentMessageWindow local = getLocal(roomId);
+        if (beforeSeq != null && local != null && beforeSeq <= local.maxSeq() + 1) {
+            cacheMetrics.recordHit(LOCAL_CACHE_NAME);
+            return local.slice(beforeSeq, count);
+        }
+
+        long latestSeq = chatRoomStateRepository.findState(roomId).map(ChatRoomState::lastSeq).orElse(0L);
+        if (latestSeq == 0) {
+            // 상태 해시가 없으면 링의 최신 여부를 판단할 수 없다.
+            return null;
+        }
+
+        // 2) 최신 seq까지 반영된 메모리 링
+        if (isServable(local, latestSeq)) {
+            cacheMetrics.recordHit(LOCAL_CACHE_NAME);
+            return local.slice(beforeSeq, count);
+        }
+        cacheMetrics.recordMiss(LOCAL_CACHE_NAME);
+
+        // 3) Redis 링
+        Optional<RecentMessageWindow> shared = chatRecentMessageRepository.find(roomId);
+        if (shared.isPresent() && beforeSeq != null && shared.get().floor() > 0 && beforeSeq <= shared.get().floor()) {
+            // 링보다 오래된 구간은 링을 다시 채워도 처리할 수 없다.
+            cacheMetrics.recordMiss(REDIS_CACHE_NAME);
+            return null;
+        }
+        if (shared.isPresent() && isServable(shared.get(), latestSeq)) {
+            cacheMetrics.recordHit(REDIS_CACHE_NAME);
+            putLocal(roomId, shared.get());
+            return shared.get().slice(beforeSeq, count);
+        }
+        cacheMetrics.recordMiss(REDIS_CACHE_NAME);
+
+        // 4) 링이 없거나 뒤처져 있거나 빠진 seq가 있으면 이번 요청은 Mongo에서 읽고, 링은 따로 다시 채운다.
+        scheduleRefill(roomId, shared.map(RecentMessageWindow::holes).orElse(null));
+        return null;
+    }
+
+    /**
+     * 이 노드에서 저장한 메시지를 메모리 링에 덧붙인다.
+     * seq가 이어지지 않으면 메모리 링을 비워 다음 조회 때 Redis에서 다시 읽도록 한다.
+     */
+    public void appendLocal(Long roomId, long seq, ChatMessageDto message) {
+        if (!enabled) {
+            return;
+        }
+
+        windowsLock.lock();
+        try {
+            RecentMessageWindow current = windows.get(roomId);
+            if (current == null) {
+                return;
+            }
+
+            RecentMessageWindow appended = current.append(new RecentMessage(seq, message), capacity);
+            if (appended == null) {
+                windows.remove(roomId);
+            } else {
+                windows.put(roomId, appended);
+            }
+        } finally {
+            windowsLock.unlock();
+        }
+    }
+
+    /**
+     * 저장에 실패한 메시지를 링에서 제거하고 빈자리로 기록한다.
+     */
+    public void discard(Long roomId, long seq) {
+        if (!enabled) {
+            return;
+        }
+
+        windowsLock.lock();
+        try {
+            windows.remove(roomId);
+        } finally {
+            windowsLock.unlock();
+        }
+        try {
+            chatRecentMessageRepository.discard(roomId, seq, Duration.ofMinutes(redisTtlMinutes));
+        } catch (Exception e) {
+            log.warn("최근 메시지 링 정리 실패 (roomId={}, seq={})", roomId, seq, e);
+        }
+    }
+
+    private static boolean isServable(RecentMessageWindow window, long latestSeq) {
+        return window != null && window.coversUpTo(latestSeq) && window.isContiguous();
+    }
+
+    private void scheduleRefill(Long roomId, Set<Long> knownHoles) {
+        if (!refilling.add(roomId)) {
+            return;
+        }
+        try {
+            refillExecutor.execute(() -> {
+                try {
+                    reload(roomId, knownHoles != null ? knownHoles : chatRecentMessageRepository.findHoles(roomId));
+                } catch (Exception e) {
+                    log.warn("최근 메시지 링 재적재 실패 (roomId={})", roomId, e);
+                } finally {
+                    refilling.remove(roomId);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            refilling.remove(roomId);
+            log.debug("최근 메시지 링 재적재 대기열 포화, 건너뜀 (roomId={})", roomId);
+        }
+    }
+
+    /**
+     * seq 카운터를 확인한 뒤 Mongo에서 최근 메시지를 읽어 링을 만든다.
+     * 그 사이 새 seq가 발급되었으면 Redis 링은 교체되지 않는다. (다음 조회 때 다시 시도)
+     */
+    private void reload(Long roomId, Set<Long> knownHoles) {
+        long latestSeq = chatMessageRepository.findLatestMessageSeq(roomId);
+        if (latestSeq == 0) {
+            return;
+        }
+
+        List<ChatMessage> rows = chatMessageRepository.findByRoomIdOrderBySeqDesc(roomId, PageRequest.of(0, capacity));
+
+        List<RecentMessage> ascending = new ArrayList<>(rows.size());
+        for (int i = rows.size() - 1; i >= 0; i--) {
+            ChatMessage row = rows.get(i);
+            ascending.add(new RecentMessage(row.getSeq(), ChatMessageDto.fromEntity(row)));
+        }
+
+        boolean wholeRoom = ascending.size() < capacity;
+        List<Long> newHoles = findSettledGaps(ascending, knownHoles, wholeRoom);
+        Set<Long> holes = new HashSet<>(knownHoles);
+        holes.addAll(newHoles);
+
+        RecentMessageWindow window = RecentMessageWindow.ofLatest(ascending, capacity, holes);
+        if (!chatRecentMessageRepository.replace(roomId, window, latestSeq, newHoles, Duration.ofMinutes(redisTtlMinutes))) {
+            return;
+        }
+        // 첫 페이지에 쓸지는 조회 때 최신 seq와 비교해 정하므로, 빠진 seq가 없으면 메모리 링에도 넣는다.
+        if (window.isContiguous()) {
+            putLocal(roomId, window);
+        }
+    }
+
+    /**
+     * Mongo 결과 사이의 빈 seq 중, 바로 다음 메시지가 hole-grace-seconds보다 오래된 seq
+     * (seq는 발급 순서대로 저장되므로 그만큼 지나도 비어 있으면 저장에 실패한 seq로 본다)
+     */
+    private List<Long> findSettledGaps(List<RecentMessage> ascending, Set<Long> knownHoles, boolean wholeRoom) {
+        if (ascending.isEmpty()) {
+            return List.of();
+        }
+        Instant settledBefore = Instant.now().minusSeconds(holeGraceSeconds);
+
+        List<Long> gaps = new ArrayList<>();
+        long previous = wholeRoom ? 0L : ascending.get(0).seq();
+        for (RecentMessage message : ascending) {
+            Instant createdAt = message.message().createdAt();
+            boolean settled = createdAt != null && createdAt.isBefore(settledBefore);
+            for (long seq = previous + 1; seq < message.seq(); seq++) {
+                if (settled && !knownHoles.contains(seq)) {
+                    gaps.add(seq);
+                }
+            }
+            previous = message.seq();
+        }
+        return gaps;
+    }
+
+    private RecentMessageWindow getLocal(Long roomId) {
+        windowsLock.lock();
+        try {
+            return windows.get(roomId);
+        } finally {
+            windowsLock.unlock();
+        }
+    }
+
+    private void putLocal(Long roomId, RecentMessageWindow window) {
+        windowsLock.lock();
+        try {
+            windows.put(roomId, window);
+        } finally {
+            windowsLock.unlock();
+        }
+    }
+}
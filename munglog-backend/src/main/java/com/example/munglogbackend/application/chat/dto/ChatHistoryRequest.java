@@ -0,0 +1,27 @@
+package com.example.munglogbackend.application.chat.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * 여러 채팅방 메시지 일괄 조회 요청 항목 (GET /rooms/{roomId}/messages 한 번에 해당)
+ */
+public record ChatHistoryRequest(
+        @Schema(description = "채팅방 ID", example = "1")
+        @NotNull(message = "채팅방 ID는 필수입니다.")
+        Long roomId,
+
+        @Schema(description = "이 seq 이전 메시지를 조회 (없으면 최신부터)", example = "120")
+        Long beforeSeq,
+
+        @Schema(description = "조회할 메시지 수 (기본 50, 최대 100)", example = "50")
+        @Positive(message = "조회할 메시지 수는 1 이상이어야 합니다.")
+        Integer size
+) {
+    public static final int DEFAULT_SIZE = 50;
+
+    public int sizeOrDefault() {
+        return size == null ? DEFAULT_SIZE : size;
+    }
+}
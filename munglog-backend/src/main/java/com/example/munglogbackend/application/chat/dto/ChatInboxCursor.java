@@ -0,0 +1,34 @@
+package com.example.munglogbackend.application.chat.dto;
+
+import com.example.munglogbackend.domain.chat.exception.ChatErrorType;
+import com.example.munglogbackend.domain.chat.exception.ChatException;
+
+/**
+ * 내 채팅방 목록 페이지 커서 ("{score}_{roomId}")
+ * - score가 같은 방은 roomId 문자열 역순으로 정렬되므로 roomId까지 함께 기록한다.
+ */
+public record ChatInboxCursor(long score, Long roomId) {
+    public static ChatInboxCursor of(ChatInboxRoom room) {
+        return new ChatInboxCursor(room.score(), room.roomId());
+    }
+
+    public static ChatInboxCursor parse(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        int idx = value.indexOf('_');
+        if (idx < 0) {
+            throw new ChatException(ChatErrorType.INVALID_CURSOR);
+        }
+        try {
+            return new ChatInboxCursor(Long.parseLong(value.substring(0, idx)), Long.valueOf(value.substring(idx + 1)));
+        } catch (NumberFormatException e) {
+            throw new ChatException(ChatErrorType.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        return score + "_" + roomId;
+    }
+}
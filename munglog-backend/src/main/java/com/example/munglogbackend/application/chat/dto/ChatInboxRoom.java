@@ -0,0 +1,27 @@
+package com.example.munglogbackend.application.chat.dto;
+
+import com.example.munglogbackend.domain.chat.enumerate.ChatRoomType;
+
+import java.time.Instant;
+
+/**
+ * 회원별 inbox에 들어 있는 채팅방 한 건
+ * - score: inbox 정렬 기준 (마지막 메시지 epoch millis), 페이지 커서에 사용한다.
+ */
+public record ChatInboxRoom(
+        Long roomId,
+        long score,
+        ChatRoomType chatRoomType,
+        long lastSeq,
+        Instant lastMessageAt,
+        String lastMessagePreview,
+        long lastReadSeq
+) {
+    public ChatInboxRoom withChatRoomType(ChatRoomType chatRoomType) {
+        return new ChatInboxRoom(roomId, score, chatRoomType, lastSeq, lastMessageAt, lastMessagePreview, lastReadSeq);
+    }
+
+    public long unreadCount() {
+        return Math.max(0, lastSeq - lastReadSeq);
+    }
+}
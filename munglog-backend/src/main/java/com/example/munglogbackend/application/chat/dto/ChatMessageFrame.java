@@ -0,0 +1,56 @@
+package com.example.munglogbackend.application.chat.dto;
+
+import com.example.munglogbackend.domain.chat.entity.ChatMessage;
+import com.example.munglogbackend.domain.chat.enumerate.MessageType;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+/**
+ * 클라이언트로 나가는 채팅 메시지 (방 브로드캐스트 본문, 메시지 조회 결과)
+ * - createdAt은 epoch millis로 내보낸다.
+ * - 비어 있는 content / 파일 정보는 JSON에 포함하지 않는다.
+ * - 직렬화는 ChatMessageFrameSerializer가 JsonGenerator로 직접 쓴다. (중간 Map을 만들지 않음)
+ */
+@JsonSerialize(using = ChatMessageFrameSerializer.class)
+public record ChatMessageFrame(
+        long roomId,
+        long senderId,
+        long seq,
+        MessageType type,
+        String content,
+        String fileUrl,
+        String fileName,
+        Long fileSize,
+        long createdAt
+) {
+    public static ChatMessageFrame from(ChatMessage message) {
+        return new ChatMessageFrame(
+                message.getRoomId(),
+                message.getSenderId(),
+                message.getSeq(),
+                message.getType(),
+                message.getContent(),
+                message.getFileUrl(),
+                message.getFileName(),
+                message.getFileSize(),
+                message.getCreatedAt().toEpochMilli()
+        );
+    }
+
+    /**
+     * 최근 메시지 링 항목 (seq는 링에 따로 보관된다)
+     */
+    public static ChatMessageFrame from(RecentMessage recent) {
+        ChatMessageDto message = recent.message();
+        return new ChatMessageFrame(
+                message.roomId(),
+                message.senderId(),
+                recent.seq(),
+                message.type(),
+                message.content(),
+                message.fileUrl(),
+                message.fileName(),
+                message.fileSize(),
+                message.createdAt().toEpochMilli()
+        );
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.munglogbackend.application.chat.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * ChatMessageFrame 전용 직렬화기
+ * - 필드 이름은 미리 인코딩한 SerializedString을 재사용하고, 숫자는 박싱 없이 바로 쓴다.
+ * - 생략 규칙은 기존 Map 기반 payload와 같다. (createdAt만 ISO 문자열 대신 epoch millis)
+ */
+public class ChatMessageFrameSerializer extends StdSerializer<ChatMessageFrame> {
+    private static final SerializedString ROOM_ID = new SerializedString("roomId");
+    private static final SerializedString SENDER_ID = new SerializedString("senderId");
+    private static final SerializedString TYPE = new SerializedString("type");
+    private static final SerializedString SEQ = new SerializedString("seq");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString CONTENT = new SerializedString("content");
+    private static final SerializedString FILE_URL = new SerializedString("fileUrl");
+    private static final SerializedString FILE_NAME = new SerializedString("fileName");
+    private static final SerializedString FILE_SIZE = new SerializedString("fileSize");
+
+    public ChatMessageFrameSerializer() {
+        super(ChatMessageFrame.class);
+    }
+
+    @Override
+    public void serialize(ChatMessageFrame frame, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(frame);
+
+        gen.writeFieldName(ROOM_ID);
+        gen.writeNumber(frame.roomId());
+        gen.writeFieldName(SENDER_ID);
+        gen.writeNumber(frame.senderId());
+        gen.writeFieldName(TYPE);
+        gen.writeString(frame.type().name());
+        gen.writeFieldName(SEQ);
+        gen.writeNumber(frame.seq());
+        gen.writeFieldName(CREATED_AT);
+        gen.writeNumber(frame.createdAt());
+
+        // TEXT/SYSTEM일 때만 content
+        if (hasText(frame.content())) {
+            gen.writeFieldName(CONTENT);
+            gen.writeString(frame.content());
+        }
+        // IMAGE/VIDEO/FILE일 때만 파일 정보
+        if (hasText(frame.fileUrl())) {
+            gen.writeFieldName(FILE_URL);
+            gen.writeString(frame.fileUrl());
+        }
+        if (hasText(frame.fileName())) {
+            gen.writeFieldName(FILE_NAME);
+            gen.writeString(frame.fileName());
+        }
+        if (frame.fileSize() != null) {
+            gen.writeFieldName(FILE_SIZE);
+            gen.writeNumber(frame.fileSize());
+        }
+
+        gen.writeEndObject();
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
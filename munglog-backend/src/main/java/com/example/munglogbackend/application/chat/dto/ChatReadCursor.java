@@ -0,0 +1,14 @@
+package com.example.munglogbackend.application.chat.dto;
+
+import java.time.Instant;
+
+/**
+ * 채팅방 참가자의 읽음 위치
+ */
+public record ChatReadCursor(
+        Long roomId,
+        Long memberId,
+        long lastReadSeq,
+        Instant lastReadAt
+) {
+}
@@ -0,0 +1,42 @@
+package com.example.munglogbackend.application.chat.dto;
+
+import com.example.munglogbackend.domain.chat.exception.ChatErrorType;
+import com.example.munglogbackend.domain.chat.exception.ChatException;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 그룹 채팅방 목록 페이지 커서 ("{lastMessageAt epoch micros}_{roomId}")
+ * - (last_message_at DESC, id DESC) 정렬의 마지막 행을 가리킨다.
+ * - Postgres timestamp는 마이크로초 단위이므로 커서도 마이크로초까지 기록한다.
+ *   (밀리초로 자르면 같은 밀리초 안의 더 늦은 행이 커서보다 앞선 것으로 비교되어 다음 페이지에 다시 나온다)
+ */
+public record ChatRoomCursor(Instant lastMessageAt, Long roomId) {
+    public static ChatRoomCursor of(ChatRoomListing room) {
+        return new ChatRoomCursor(room.lastMessageAt(), room.roomId());
+    }
+
+    public static ChatRoomCursor parse(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        int idx = value.indexOf('_');
+        if (idx < 0) {
+            throw new ChatException(ChatErrorType.INVALID_CURSOR);
+        }
+        try {
+            return new ChatRoomCursor(
+                    Instant.EPOCH.plus(Long.parseLong(value.substring(0, idx)), ChronoUnit.MICROS),
+                    Long.valueOf(value.substring(idx + 1))
+            );
+        } catch (NumberFormatException e) {
+            throw new ChatException(ChatErrorType.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, lastMessageAt) + "_" + roomId;
+    }
+}
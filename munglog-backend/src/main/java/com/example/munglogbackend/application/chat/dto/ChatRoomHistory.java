@@ -0,0 +1,15 @@
+package com.example.munglogbackend.application.chat.dto;
+
+import java.util.List;
+
+/**
+ * 채팅방 하나의 메시지 조회 결과
+ * - messages: seq 오름차순 (오래된 → 최신)
+ * - hasNext: 더 오래된 메시지가 남아 있으면 true (다음 요청의 beforeSeq는 messages의 첫 seq)
+ */
+public record ChatRoomHistory(
+        Long roomId,
+        List<ChatMessageFrame> messages,
+        boolean hasNext
+) {
+}
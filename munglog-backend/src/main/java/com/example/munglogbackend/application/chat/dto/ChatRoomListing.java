@@ -0,0 +1,16 @@
+package com.example.munglogbackend.application.chat.dto;
+
+import com.example.munglogbackend.domain.chat.enumerate.ChatRoomType;
+
+import java.time.Instant;
+
+/**
+ * 채팅방 목록 조회용 프로젝션 (엔티티를 읽지 않고 필요한 컬럼만 조회)
+ */
+public record ChatRoomListing(
+        Long roomId,
+        ChatRoomType chatRoomType,
+        Instant lastMessageAt,
+        String lastMessagePreview
+) {
+}
@@ -0,0 +1,14 @@
+package com.example.munglogbackend.application.chat.dto;
+
+import java.time.Instant;
+
+/**
+ * Redis에 보관된 채팅방의 마지막 메시지 상태
+ */
+public record ChatRoomState(
+        Long roomId,
+        long lastSeq,
+        Instant lastMessageAt,
+        String lastMessagePreview
+) {
+}
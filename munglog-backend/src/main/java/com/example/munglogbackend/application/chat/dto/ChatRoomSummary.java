@@ -5,15 +5,13 @@ import com.example.munglogbackend.domain.chat.enumerate.ChatRoomType;
 import com.example.munglogbackend.domain.chat.enumerate.MessageType;
 
 import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
 
 public record ChatRoomSummary(
         Long roomId,
         long unreadCount,
         ChatRoomType chatRoomType,
         String lastMessagePreview,     // 미리보기용 문자열
-        LocalDateTime lastMessageAt
+        Long lastMessageAt             // epoch millis
 ) {
     public static ChatRoomSummary of(ChatRoom room, long unread,ChatRoomType chatRoomType,  String lastMessagePreview, Instant lastMessageAt) {
         return new ChatRoomSummary(
@@ -21,7 +19,7 @@ public record ChatRoomSummary(
                 unread,
                 chatRoomType,
                 lastMessagePreview,
-                toLocalDateTime(lastMessageAt)
+                toEpochMilli(lastMessageAt)
         );
     }
 
@@ -39,8 +37,8 @@ public record ChatRoomSummary(
         };
     }
 
-    private static LocalDateTime toLocalDateTime(Instant instant) {
-        return (instant == null) ? null : LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    public static Long toEpochMilli(Instant instant) {
+        return (instant == null) ? null : instant.toEpochMilli();
     }
 
     private static String trim(String s, int max) {
@@ -0,0 +1,14 @@
+package com.example.munglogbackend.application.chat.dto;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 응답
+ * - nextCursor: 다음 페이지 요청 시 before로 넘길 값 (마지막 페이지면 null)
+ */
+public record CursorSlice<T>(
+        List<T> content,
+        boolean hasNext,
+        String nextCursor
+) {
+}
@@ -0,0 +1,7 @@
+package com.example.munglogbackend.application.chat.dto;
+
+/**
+ * 최근 메시지 링에 보관되는 메시지 한 건
+ */
+public record RecentMessage(long seq, ChatMessageDto message) {
+}
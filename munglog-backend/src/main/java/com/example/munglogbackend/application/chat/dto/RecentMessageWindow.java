@@ -0,0 +1,107 @@
+package com.example.munglogbackend.application.chat.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 채팅방의 최근 메시지 링 스냅샷
+ * - messages: seq 오름차순
+ * - floor: seq >= floor인 메시지는 빠짐없이 들어 있어야 한다. 0이면 채팅방의 전체 메시지(seq 1부터)를 보관 중이다.
+ * - holes: 발급되었지만 저장되지 않아 영원히 존재하지 않는 seq (빈자리로 인정한다)
+ * - 링으로 조회를 처리하기 전에 isContiguous()로 floor ~ 최신 seq 사이에 빠진 메시지가 없는지 확인한다.
+ */
+public record RecentMessageWindow(long floor, List<RecentMessage> messages, Set<Long> holes) {
+    public RecentMessageWindow {
+        messages = List.copyOf(messages);
+        holes = Set.copyOf(holes);
+    }
+
+    public static RecentMessageWindow ofLatest(List<RecentMessage> ascending, int capacity, Set<Long> holes) {
+        long floor = (ascending.size() < capacity || ascending.isEmpty()) ? 0L : ascending.get(0).seq();
+        return new RecentMessageWindow(floor, ascending, holes);
+    }
+
+    public long maxSeq() {
+        return messages.isEmpty() ? 0L : messages.get(messages.size() - 1).seq();
+    }
+
+    /**
+     * floor(0이면 1) ~ maxSeq 사이의 seq가 메시지 또는 알려진 빈자리로 모두 채워져 있으면 true
+     * (count == maxSeq - minSeq + 1)
+     */
+    public boolean isContiguous() {
+        if (messages.isEmpty()) {
+            return true;
+        }
+        long minSeq = floor == 0 ? 1L : messages.get(0).seq();
+        long maxSeq = maxSeq();
+
+        long holesInRange = holes.stream().filter(seq -> seq >= minSeq && seq <= maxSeq).count();
+        return messages.size() + holesInRange == maxSeq - minSeq + 1;
+    }
+
+    /**
+     * 링이 latestSeq까지 반영되어 있으면 true (maxSeq 뒤의 seq가 모두 알려진 빈자리인 경우 포함)
+     */
+    public boolean coversUpTo(long latestSeq) {
+        long maxSeq = maxSeq();
+        if (maxSeq >= latestSeq) {
+            return maxSeq == latestSeq;
+        }
+        if (latestSeq - maxSeq > holes.size()) {
+            return false;
+        }
+        for (long seq = maxSeq + 1; seq <= latestSeq; seq++) {
+            if (!holes.contains(seq)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * beforeSeq 이전(null이면 최신) 메시지를 최신 순으로 count개 꺼낸다.
+     * 링만으로 count개를 채울 수 없고 더 오래된 메시지가 남아 있다면 null을 반환한다.
+     */
+    public List<RecentMessage> slice(Long beforeSeq, int count) {
+        List<RecentMessage> result = new ArrayList<>(count);
+        for (int i = messages.size() - 1; i >= 0 && result.size() < count; i--) {
+            RecentMessage message = messages.get(i);
+            if (beforeSeq == null || message.seq() < beforeSeq) {
+                result.add(message);
+            }
+        }
+
+        if (result.size() == count || floor == 0) {
+            return result;
+        }
+        return null;
+    }
+
+    /**
+     * 바로 다음 seq(알려진 빈자리는 건너뜀)의 메시지를 덧붙인 새 스냅샷을 만든다.
+     * 중간 seq가 빠져 있으면(다른 노드에서 보낸 메시지, 아직 저장 중인 메시지 등) null을 반환한다.
+     */
+    public RecentMessageWindow append(RecentMessage message, int capacity) {
+        long expected = maxSeq() + 1;
+        while (holes.contains(expected)) {
+            expected++;
+        }
+        if (message.seq() != expected) {
+            return null;
+        }
+
+        List<RecentMessage> appended = new ArrayList<>(messages.size() + 1);
+        appended.addAll(messages);
+        appended.add(message);
+        if (appended.size() <= capacity) {
+            return new RecentMessageWindow(floor, appended, holes);
+        }
+
+        List<RecentMessage> trimmed = appended.subList(appended.size() - capacity, appended.size());
+        long newFloor = trimmed.get(0).seq();
+        Set<Long> remainingHoles = Set.copyOf(holes.stream().filter(seq -> seq >= newFloor).toList());
+        return new RecentMessageWindow(newFloor, trimmed, remainingHoles);
+    }
+}
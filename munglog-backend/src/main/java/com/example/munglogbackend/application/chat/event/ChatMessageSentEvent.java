@@ -0,0 +1,44 @@
+package com.example.munglogbackend.application.chat.event;
+
+import com.example.munglogbackend.application.chat.dto.ChatMessageFrame;
+import com.example.munglogbackend.config.monitoring.ChatSendTracer.ChatSendTrace;
+import com.example.munglogbackend.domain.chat.entity.ChatMessage;
+import com.example.munglogbackend.domain.chat.enumerate.ChatRoomType;
+import com.example.munglogbackend.domain.chat.enumerate.MessageType;
+
+import java.time.Instant;
+
+/**
+ * 메시지가 저장된 직후 발행되는 이벤트
+ * - 트랜잭션 커밋 이후 팬아웃 단계에서 방 브로드캐스트와 요약 전송에 사용한다.
+ * - 엔티티 대신 필요한 값만 스냅샷으로 담아 다른 스레드에서도 안전하게 읽을 수 있다.
+ * - receivedAt은 서버가 메시지를 받은 시각으로, 브로드캐스트 시 serverReceivedAt 헤더와 발행 지연 측정에 쓰인다.
+ */
+public record ChatMessageSentEvent(
+        Long roomId,
+        Long senderId,
+        long seq,
+        MessageType messageType,
+        ChatRoomType chatRoomType,
+        String lastMessagePreview,
+        Instant lastMessageAt,
+        ChatMessageFrame frame,
+        Instant receivedAt,
+        ChatSendTrace trace
+) {
+    public static ChatMessageSentEvent of(ChatMessage message, ChatRoomType chatRoomType,
+                                          Instant receivedAt, ChatSendTrace trace) {
+        return new ChatMessageSentEvent(
+                message.getRoomId(),
+                message.getSenderId(),
+                message.getSeq(),
+                message.getType(),
+                chatRoomType,
+                message.getContent(),
+                message.getCreatedAt(),
+                ChatMessageFrame.from(message),
+                receivedAt,
+                trace
+        );
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.munglogbackend.application.chat.event;
+
+import java.util.List;
+
+/**
+ * 채팅방 생성/참여/나가기로 참가자 명단이 바뀌었음을 알리는 이벤트
+ * - memberIds: 이번 변경으로 채팅방에 들어오거나 나간 회원
+ */
+public record ChatRosterChangedEvent(Long roomId, List<Long> memberIds) {
+}
@@ -0,0 +1,110 @@
+package com.example.munglogbackend.application.chat.fanout;
+
+import com.example.munglogbackend.application.chat.dto.ChatRoomSummary;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 팬아웃 단계에서 보내는 STOMP 메시지 본문을 미리 직렬화한다.
+ * - 브로드캐스트 payload는 byte[]로 한 번만 직렬화하고, content-type을 지정한 Message<byte[]>로 바로 보낸다.
+ *   (convertAndSend의 메시지 컨버터 탐색과 헤더 복사를 거치지 않는다)
+ * - 채팅방 요약은 unreadCount 자리만 비운 템플릿으로 한 번 직렬화해 참가자마다 숫자만 끼워 넣는다.
+ * - 직렬화는 Spring이 STOMP 컨버터에 쓰는 것과 같은 ObjectMapper를 사용하므로 JSON 형식은 기존과 같다.
+ * - stomp.wire.cbor.enabled=true이면 CBOR 본문도 함께 만들어 인코딩별 토픽(WireFormat.destination)으로 발행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatBroadcastEncoder {
+    // 템플릿을 만들 때 unreadCount 자리에 넣는 값
+    // JSON: 문자열 안에서는 따옴표가 이스케이프되므로 "키":값 형태로는 나올 수 없다.
+    // CBOR: 필드 이름(text string) 바로 뒤의 9바이트 음수 정수로 찾는다.
+    private static final long UNREAD_PLACEHOLDER = Long.MIN_VALUE;
+
+    private final ObjectMapper objectMapper;
+    private final CBORMapper cborMapper = new CBORMapper();
+
+    @Value("${stomp.wire.cbor.enabled:false}")
+    private boolean cborEnabled;
+
+    private List<WireFormat> formats;
+
+    @PostConstruct
+    void init() {
+        formats = cborEnabled ? List.of(WireFormat.JSON, WireFormat.CBOR) : List.of(WireFormat.JSON);
+        log.info("📦 브로드캐스트 인코딩: {}", formats);
+    }
+
+    /**
+     * 발행할 인코딩 목록 (JSON은 항상 포함)
+     */
+    public List<WireFormat> formats() {
+        return formats;
+    }
+
+    public byte[] encode(WireFormat format, Object payload) {
+        try {
+            return (format == WireFormat.CBOR ? cborMapper : objectMapper).writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("브로드캐스트 메시지 직렬화 실패 (format=" + format + ")", e);
+        }
+    }
+
+    /**
+     * 방의 마지막 메시지 기준 요약 템플릿 (unreadCount를 제외한 나머지는 모든 참가자가 같다)
+     */
+    public RoomSummaryTemplate summaryTemplate(WireFormat format, ChatRoomSummary summary) {
+        Long roomId = summary.roomId();
+        byte[] encoded = encode(format, new ChatRoomSummary(roomId, UNREAD_PLACEHOLDER, summary.chatRoomType(),
+                summary.lastMessagePreview(), summary.lastMessageAt()));
+
+        byte[] token = format.unreadToken(UNREAD_PLACEHOLDER);
+        int tokenAt = indexOf(encoded, token);
+        if (tokenAt < 0) {
+            throw new IllegalStateException("채팅방 요약 템플릿 생성 실패 (roomId=" + roomId + ", format=" + format + ")");
+        }
+        int valueAt = tokenAt + format.unreadValueOffset(UNREAD_PLACEHOLDER);
+        return new RoomSummaryTemplate(format,
+                Arrays.copyOfRange(encoded, 0, valueAt),
+                Arrays.copyOfRange(encoded, tokenAt + token.length, encoded.length));
+    }
+
+    /**
+     * 직렬화된 본문으로 STOMP 메시지를 만든다.
+     * 헤더는 변경 가능한 상태로 두어 SimpMessagingTemplate.send가 destination만 채워 그대로 보내게 한다.
+     */
+    public Message<byte[]> toMessage(WireFormat format, byte[] body, Map<String, String> nativeHeaders) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(format.contentType());
+        nativeHeaders.forEach(accessor::setNativeHeader);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(body, accessor.getMessageHeaders());
+    }
+
+    private static int indexOf(byte[] source, byte[] target) {
+        outer:
+        for (int i = 0; i <= source.length - target.length; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (source[i + j] != target[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,330 @@
+package com.example.munglogbackend.application.chat.fanout;
+
+import com.example.munglogbackend.application.chat.cache.ChatInboxCache;
+import com.example.munglogbackend.application.chat.cache.ChatRosterCache;
+import com.example.munglogbackend.application.chat.dto.ChatRoomSummary;
+import com.example.munglogbackend.application.chat.event.ChatMessageSentEvent;
+import com.example.munglogbackend.application.chat.provided.ChatParticipantFinder;
+import com.example.munglogbackend.config.monitoring.ChatSendStage;
+import com.example.munglogbackend.config.monitoring.WebSocketMetricsConfig;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메시지 저장 이후의 팬아웃(방 브로드캐스트 + 참가자별 요약 전송)을 담당한다.
+ * - roomId 해시로 레인을 고정하므로 같은 방의 메시지는 항상 같은 스레드에서 처리된다.
+ * - seq는 트랜잭션 안에서 발급되고 이벤트는 커밋 이후 레인에 들어오므로, 같은 방이라도 N+1이 N보다 먼저 도착할 수 있다.
+ *   레인은 이 노드에서 발급된 더 작은 seq가 아직 레인에 들어오지 않은 메시지(InFlightSeqTracker)를 방별로 붙잡아 두고,
+ *   앞선 seq가 도착하면 seq 순으로 내보낸다. hold-timeout-ms가 지나도 오지 않는 seq는 건너뛰고 뒤의 메시지를 보내며,
+ *   그 seq가 늦게 도착하면 순서와 무관하게 전송된다. 다른 노드에서 발급된 seq는 기다리지 않는다. (클라이언트는 seq로 재정렬/보충)
+ * - 각 레인은 제한된 큐를 가지며, 큐가 가득 차면 자리가 날 때까지 발신 스레드(inbound 채널)를 막는다.
+ *   레인을 건너뛰고 직접 보내면 큐에 남은 앞선 seq보다 먼저 나가 방 안의 순서가 깨지므로 우회 경로는 두지 않는다.
+ * - 레인은 큐에 쌓인 이벤트를 batch-size만큼 한 번에 꺼내 방별로 참가자 조회를 한 번만 수행한다.
+ * - 참가자별 요약은 방의 마지막 메시지마다 한 번만 직렬화(RoomSummaryTemplate)하고, RoomSummaryCoalescer를 거쳐 일정 주기로 묶여 전송된다.
+ * - 참가자 inbox 인덱스도 이 단계에서 최신 메시지 시각으로 갱신한다.
+ * - 브로드캐스트와 요약은 JSON으로 항상 보내고, 그 외 인코딩은 해당 토픽에 구독자가 있을 때만 직렬화해 보낸다. (WireFormatSubscriptions)
+ * - 방 브로드캐스트에는 serverReceivedAt / serverPublishedAt(epoch ms) 헤더를 붙여 클라이언트가 구간별 지연을 나눠 볼 수 있게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatFanoutDispatcher {
+    private static final String ROOM_DESTINATION_PREFIX = "/topic/chat.room.";
+    public static final String SERVER_RECEIVED_AT_HEADER = "serverReceivedAt";
+    public static final String SERVER_PUBLISHED_AT_HEADER = "serverPublishedAt";
+
+    private final ChatParticipantFinder chatParticipantFinder;
+    private final ChatRosterCache chatRosterCache;
+    private final ChatInboxCache chatInboxCache;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final RoomSummaryCoalescer roomSummaryCoalescer;
+    private final ChatBroadcastEncoder broadcastEncoder;
+    private final InFlightSeqTracker inFlightSeqTracker;
+    private final WireFormatSubscriptions wireFormatSubscriptions;
+    private final WebSocketMetricsConfig metricsConfig;
+
+    @Value("${chat.fanout.lanes:8}")
+    private int laneCount;
+
+    @Value("${chat.fanout.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${chat.fanout.batch-size:64}")
+    private int batchSize;
+
+    // 큐가 가득 찼을 때 이 간격마다 대기 상황을 기록하며 계속 기다린다.
+    @Value("${chat.fanout.offer-timeout-ms:50}")
+    private long offerTimeoutMs;
+
+    // 앞선 seq를 기다리는 최대 시간 (seq 발급 시각 기준)
+    @Value("${chat.fanout.hold-timeout-ms:2000}")
+    private long holdTimeoutMs;
+
+    private FanoutLane[] lanes;
+
+    @PostConstruct
+    void start() {
+        lanes = new FanoutLane[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = new FanoutLane(i);
+            lanes[i].start();
+        }
+        log.info("📤 채팅 팬아웃 레인 {}개 시작 (queueCapacity={}, batchSize={})",
+                laneCount, queueCapacity, batchSize);
+    }
+
+    @PreDestroy
+    void stop() {
+        for (FanoutLane lane : lanes) {
+            lane.shutdown();
+        }
+    }
+
+    /**
+     * 트랜잭션이 커밋된 뒤에만 팬아웃을 시작한다.
+     * 트랜잭션 밖에서 발행된 이벤트도 바로 처리한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMessageSent(ChatMessageSentEvent event) {
+        dispatch(event);
+    }
+
+    public void dispatch(ChatMessageSentEvent event) {
+        FanoutLane lane = lanes[Math.floorMod(event.roomId().hashCode(), lanes.length)];
+
+        if (!lane.enqueue(event)) {
+            // 종료 중이거나 인터럽트된 경우: 순서를 지킬 수 없으므로 보내지 않는다. (클라이언트는 히스토리 조회로 복구)
+            inFlightSeqTracker.end(event.roomId(), event.seq());
+            metricsConfig.recordMessageFailure();
+            log.error("팬아웃 레인에 넣지 못해 브로드캐스트 생략 (lane={}, roomId={}, seq={})",
+                    lane.index, event.roomId(), event.seq());
+        }
+    }
+
+    /**
+     * 배치 단위 팬아웃
+     * - 방별로 묶어 seq 순으로 브로드캐스트한다.
+     * - 요약은 방의 마지막 메시지 기준으로 참가자마다 한 번만 보낸다. (이전 요약은 어차피 덮어써진다)
+     */
+    private void deliver(List<ChatMessageSentEvent> batch) {
+        Map<Long, List<ChatMessageSentEvent>> eventsByRoom = new LinkedHashMap<>();
+        for (ChatMessageSentEvent event : batch) {
+            eventsByRoom.computeIfAbsent(event.roomId(), k -> new ArrayList<>()).add(event);
+        }
+
+        for (Map.Entry<Long, List<ChatMessageSentEvent>> entry : eventsByRoom.entrySet()) {
+            List<ChatMessageSentEvent> events = entry.getValue();
+            events.sort(Comparator.comparingLong(ChatMessageSentEvent::seq));
+
+            try {
+                ChatMessageSentEvent latest = events.get(events.size() - 1);
+                List<Long> memberIds = Arrays.stream(chatRosterCache.get(entry.getKey()).memberIds()).boxed().toList();
+
+                long start = System.nanoTime();
+                broadcast(entry.getKey(), events);
+                long broadcasted = System.nanoTime();
+                metricsConfig.recordStage(ChatSendStage.BROADCAST, broadcasted - start);
+
+                chatInboxCache.touch(entry.getKey(), memberIds, latest.lastMessageAt());
+                sendRoomSummaries(entry.getKey(), memberIds, latest);
+                long fannedOut = System.nanoTime();
+                metricsConfig.recordStage(ChatSendStage.FANOUT, fannedOut - broadcasted);
+
+                for (ChatMessageSentEvent event : events) {
+                    event.trace().stage(ChatSendStage.BROADCAST, start, broadcasted);
+                    event.trace().stage(ChatSendStage.FANOUT, broadcasted, fannedOut);
+                }
+            } catch (Exception e) {
+                metricsConfig.recordMessageFailure();
+                log.error("팬아웃 실패 (roomId={})", entry.getKey(), e);
+            }
+        }
+    }
+
+    private void broadcast(Long roomId, List<ChatMessageSentEvent> events) {
+        String destination = ROOM_DESTINATION_PREFIX + roomId;
+        List<WireFormat> formats = wireFormatSubscriptions.formatsFor(destination);
+        for (ChatMessageSentEvent event : events) {
+            Instant publishedAt = Instant.now();
+            // native 헤더는 브로커를 거쳐 구독자에게 STOMP 헤더로 그대로 전달된다.
+            Map<String, String> headers = Map.of(
+                    SERVER_RECEIVED_AT_HEADER, String.valueOf(event.receivedAt().toEpochMilli()),
+                    SERVER_PUBLISHED_AT_HEADER, String.valueOf(publishedAt.toEpochMilli())
+            );
+            // 인코딩마다 토픽이 다르므로 구독자가 있는 인코딩별로 한 번씩 발행한다.
+            for (WireFormat format : formats) {
+                byte[] body = broadcastEncoder.encode(format, event.frame());
+                messagingTemplate.send(format.destination(destination), broadcastEncoder.toMessage(format, body, headers));
+                metricsConfig.recordWireBytes(format.tag(), "broadcast", body.length);
+            }
+            metricsConfig.recordMessageSent("chat_message", true);
+            metricsConfig.recordPublishLag(event.messageType(), Duration.between(event.receivedAt(), publishedAt));
+        }
+    }
+
+    private void sendRoomSummaries(Long roomId, List<Long> memberIds, ChatMessageSentEvent latest) {
+        // 읽음 위치는 Redis 해시에서 한 번에 조회
+        Map<Long, Long> lastReadSeqs = chatParticipantFinder.findLastReadSeqs(roomId, memberIds);
+
+        // 참가자마다 다른 값은 unreadCount뿐이므로 요약은 인코딩마다 한 번만 직렬화한다.
+        // 구독자가 없는 인코딩의 템플릿은 만들지 않는다.
+        ChatRoomSummary summary = new ChatRoomSummary(roomId, 0L, latest.chatRoomType(), latest.lastMessagePreview(),
+                ChatRoomSummary.toEpochMilli(latest.lastMessageAt()));
+        List<String> destinations = memberIds.stream().map(RoomSummaryCoalescer::destination).toList();
+        Map<String, List<WireFormat>> formatsByDestination = wireFormatSubscriptions.formatsFor(destinations);
+        Map<WireFormat, RoomSummaryTemplate> templateByFormat = new EnumMap<>(WireFormat.class);
+        Map<List<WireFormat>, List<RoomSummaryTemplate>> templatesByFormats = new HashMap<>();
+
+        for (Long memberId : memberIds) {
+            List<RoomSummaryTemplate> templates = templatesByFormats.computeIfAbsent(
+                    formatsByDestination.get(RoomSummaryCoalescer.destination(memberId)),
+                    formats -> formats.stream()
+                            .map(format -> templateByFormat.computeIfAbsent(format,
+                                    f -> broadcastEncoder.summaryTemplate(f, summary)))
+                            .toList());
+            long unread = getUnreadMessageCount(latest, memberId, lastReadSeqs.getOrDefault(memberId, 0L));
+            roomSummaryCoalescer.offer(memberId, roomId, templates, unread);
+        }
+    }
+
+    private static long getUnreadMessageCount(ChatMessageSentEvent latest, Long memberId, long lastReadSeq) {
+        if (memberId.equals(latest.senderId())) {
+            return 0L;
+        }
+        return Math.max(0, latest.seq() - lastReadSeq);
+    }
+
+    /**
+     * 단일 스레드 + 제한된 큐로 구성된 팬아웃 레인
+     * - 큐에서 꺼낸 이벤트는 방별 대기열(pending)에 seq 순으로 모은 뒤, 앞선 seq가 진행 중이 아닌 것부터 내보낸다.
+     * - 진행 중 표시는 레인이 큐에서 꺼낸 뒤에 해제하므로, 큐에 남아 있는 앞선 seq를 건너뛰는 일이 없다.
+     */
+    private final class FanoutLane implements Runnable {
+        // 붙잡아 둔 메시지가 있을 때의 poll 간격
+        private static final long HOLD_POLL_MS = 10;
+
+        private final int index;
+        private final BlockingQueue<ChatMessageSentEvent> queue;
+        private final Map<Long, TreeMap<Long, ChatMessageSentEvent>> pending = new HashMap<>();
+        private final Thread worker;
+        private volatile boolean running = true;
+
+        private FanoutLane(int index) {
+            this.index = index;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            this.worker = new Thread(this, "chat-fanout-" + index);
+            this.worker.setDaemon(true);
+        }
+
+        private void start() {
+            worker.start();
+        }
+
+        /**
+         * 자리가 날 때까지 기다려 큐에 넣는다. 레인이 종료되었거나 대기 중 인터럽트되면 false
+         */
+        private boolean enqueue(ChatMessageSentEvent event) {
+            try {
+                while (running) {
+                    if (queue.offer(event, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                        metricsConfig.incrementFanoutQueue();
+                        return true;
+                    }
+                    metricsConfig.recordFanoutOverflow();
+                    log.warn("팬아웃 큐 포화, 대기 중 (lane={}, roomId={})", index, event.roomId());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return false;
+        }
+
+        @Override
+        public void run() {
+            List<ChatMessageSentEvent> batch = new ArrayList<>(batchSize);
+            while (running || !queue.isEmpty()) {
+                try {
+                    ChatMessageSentEvent first = queue.poll(pending.isEmpty() ? 500 : HOLD_POLL_MS, TimeUnit.MILLISECONDS);
+                    if (first != null) {
+                        batch.add(first);
+                        queue.drainTo(batch, batchSize - 1);
+                        metricsConfig.decrementFanoutQueue(batch.size());
+                        hold(batch);
+                        batch.clear();
+                    }
+
+                    release(batch, false);
+                    if (batch.isEmpty()) {
+                        continue;
+                    }
+                    long start = System.nanoTime();
+                    deliver(batch);
+                    metricsConfig.recordFanoutBatch(batch.size(), System.nanoTime() - start);
+                } catch (InterruptedException e) {
+                    // 종료 신호: 남은 이벤트는 루프 조건에 따라 마저 처리한다.
+                    running = false;
+                } catch (Exception e) {
+                    log.error("팬아웃 레인 처리 중 오류 (lane={})", index, e);
+                } finally {
+                    batch.clear();
+                }
+            }
+
+            // 종료 시 붙잡아 둔 메시지는 더 기다리지 않고 보낸다.
+            release(batch, true);
+            if (!batch.isEmpty()) {
+                deliver(batch);
+            }
+        }
+
+        private void hold(List<ChatMessageSentEvent> events) {
+            for (ChatMessageSentEvent event : events) {
+                pending.computeIfAbsent(event.roomId(), k -> new TreeMap<>()).put(event.seq(), event);
+                inFlightSeqTracker.end(event.roomId(), event.seq());
+            }
+        }
+
+        /**
+         * 방별 대기열 앞에서부터, 이 노드에서 발급된 더 작은 seq가 아직 레인에 들어오지 않은 메시지 직전까지 꺼낸다.
+         */
+        private void release(List<ChatMessageSentEvent> ready, boolean force) {
+            long staleBefore = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(holdTimeoutMs);
+            Iterator<Map.Entry<Long, TreeMap<Long, ChatMessageSentEvent>>> rooms = pending.entrySet().iterator();
+            while (rooms.hasNext()) {
+                Map.Entry<Long, TreeMap<Long, ChatMessageSentEvent>> room = rooms.next();
+                TreeMap<Long, ChatMessageSentEvent> events = room.getValue();
+                while (!events.isEmpty()
+                        && (force || !inFlightSeqTracker.hasEarlier(room.getKey(), events.firstKey(), staleBefore))) {
+                    ready.add(events.pollFirstEntry().getValue());
+                }
+                if (events.isEmpty()) {
+                    rooms.remove();
+                }
+            }
+        }
+
+        private void shutdown() {
+            running = false;
+            worker.interrupt();
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.munglogbackend.application.chat.fanout;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 이 노드에서 발급했지만 아직 팬아웃 레인에 들어가지 않은 seq (roomId -> seq -> 발급 시각 nanoTime)
+ * - seq는 트랜잭션 안에서 발급되고 팬아웃은 커밋 이후에 시작되므로, 같은 방의 N+1이 N보다 먼저 레인에 들어올 수 있다.
+ * - 레인은 자기보다 작은 seq가 아직 여기에 남아 있는 이벤트를 붙잡아 두었다가 앞선 seq가 들어오면 순서대로 보낸다.
+ * - 저장 실패나 롤백으로 레인에 들어오지 못한 seq는 end가 호출되지 않을 수 있으므로, 오래된 항목은 조회 시 정리한다.
+ */
+@Slf4j
+@Component
+public class InFlightSeqTracker {
+    private final ConcurrentHashMap<Long, ConcurrentSkipListMap<Long, Long>> inFlight = new ConcurrentHashMap<>();
+
+    public void begin(Long roomId, long seq) {
+        inFlight.computeIfAbsent(roomId, k -> new ConcurrentSkipListMap<>()).put(seq, System.nanoTime());
+    }
+
+    public void end(Long roomId, long seq) {
+        inFlight.computeIfPresent(roomId, (k, seqs) -> {
+            seqs.remove(seq);
+            return seqs.isEmpty() ? null : seqs;
+        });
+    }
+
+    /**
+     * seq보다 작은 seq가 아직 레인에 들어오지 않았으면 true
+     * staleBeforeNanos 이전에 발급된 항목은 레인에 들어오지 않을 것으로 보고 지운다.
+     */
+    boolean hasEarlier(Long roomId, long seq, long staleBeforeNanos) {
+        ConcurrentSkipListMap<Long, Long> seqs = inFlight.get(roomId);
+        if (seqs == null) {
+            return false;
+        }
+
+        ConcurrentNavigableMap<Long, Long> earlier = seqs.headMap(seq, false);
+        Iterator<Map.Entry<Long, Long>> it = earlier.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Long, Long> entry = it.next();
+            if (entry.getValue() - staleBeforeNanos >= 0) {
+                return true;
+            }
+            it.remove();
+            log.warn("팬아웃 대기 시간 초과로 seq 건너뜀 (roomId={}, seq={})", roomId, entry.getKey());
+        }
+        if (seqs.isEmpty()) {
+            inFlight.remove(roomId, seqs);
+        }
+        return false;
+    }
+}
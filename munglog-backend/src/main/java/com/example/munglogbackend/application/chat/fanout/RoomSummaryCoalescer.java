@@ -0,0 +1,94 @@
+package com.example.munglogbackend.application.chat.fanout;
+
+import com.example.munglogbackend.config.monitoring.WebSocketMetricsConfig;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 개인 토픽(/topic/user.{memberId}.room-summary)으로 나가는 채팅방 요약을 모아서 보낸다.
+ * - (memberId, roomId)마다 가장 최근 요약 하나만 보관하고, window-ms 주기로 한 번에 전송한다.
+ * - 주기 안에 덮어써진 요약은 전송하지 않고 suppressed로 집계한다.
+ * - 요약 본문은 메시지마다 한 번 만든 템플릿을 공유하고, 전송 시점에 unreadCount만 끼워 넣는다.
+ * - 템플릿은 인코딩(WireFormat)마다 하나씩이며, 각각 인코딩별 개인 토픽으로 보낸다. (구독자가 있는 인코딩만 전달된다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomSummaryCoalescer {
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatBroadcastEncoder broadcastEncoder;
+    private final WebSocketMetricsConfig metricsConfig;
+
+    @Value("${chat.summary.coalesce.enabled:true}")
+    private boolean enabled;
+
+    private final ConcurrentHashMap<SummaryKey, PendingSummary> pending = new ConcurrentHashMap<>();
+
+    private record SummaryKey(Long memberId, Long roomId) {}
+
+    private record PendingSummary(List<RoomSummaryTemplate> templates, long unreadCount) {}
+
+    public static String destination(Long memberId) {
+        return "/topic/user." + memberId + ".room-summary";
+    }
+
+    /**
+     * 요약을 대기열에 넣는다. 같은 (memberId, roomId)의 이전 요약은 새 요약으로 교체된다.
+     */
+    public void offer(Long memberId, Long roomId, List<RoomSummaryTemplate> templates, long unreadCount) {
+        PendingSummary summary = new PendingSummary(templates, unreadCount);
+        if (!enabled) {
+            send(memberId, summary);
+            return;
+        }
+
+        PendingSummary previous = pending.put(new SummaryKey(memberId, roomId), summary);
+        if (previous != null) {
+            metricsConfig.recordSummarySuppressed();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${chat.summary.coalesce.window-ms:200}")
+    public void flush() {
+        for (SummaryKey key : pending.keySet()) {
+            PendingSummary summary = pending.remove(key);
+            if (summary == null) {
+                continue;
+            }
+
+            try {
+                send(key.memberId(), summary);
+            } catch (Exception e) {
+                metricsConfig.recordMessageFailure();
+                log.error("채팅방 요약 전송 실패 (memberId={}, roomId={})", key.memberId(), key.roomId(), e);
+            }
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    private void send(Long memberId, PendingSummary summary) {
+        String destination = destination(memberId);
+        for (RoomSummaryTemplate template : summary.templates()) {
+            WireFormat format = template.format();
+            byte[] body = template.render(summary.unreadCount());
+            messagingTemplate.send(format.destination(destination), broadcastEncoder.toMessage(format, body, Map.of()));
+            metricsConfig.recordWireBytes(format.tag(), "summary", body.length);
+        }
+        metricsConfig.recordSummarySent();
+        metricsConfig.recordMessageSent("user_room_summary", false);
+        log.debug("📡 [send] 개인 토픽 전송: /topic/user.{}.room-summary", memberId);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.munglogbackend.application.chat.fanout;
+
+/**
+ * 안 읽은 메시지 수만 비워 둔 채팅방 요약 본문
+ * - 요약은 참가자마다 unreadCount만 다르므로, 메시지당 한 번 직렬화한 뒤 숫자만 끼워 넣어 참가자별 본문을 만든다.
+ * - prefix / suffix는 여러 참가자가 공유하므로 수정하지 않는다.
+ * - 숫자는 인코딩(JSON 10진수 문자열, CBOR 정수)에 맞게 써 넣는다.
+ */
+public record RoomSummaryTemplate(WireFormat format, byte[] prefix, byte[] suffix) {
+
+    public byte[] render(long unreadCount) {
+        byte[] digits = format.encodeUnread(unreadCount);
+        byte[] body = new byte[prefix.length + digits.length + suffix.length];
+        System.arraycopy(prefix, 0, body, 0, prefix.length);
+        System.arraycopy(digits, 0, body, prefix.length, digits.length);
+        System.arraycopy(suffix, 0, body, prefix.length + digits.length, suffix.length);
+        return body;
+    }
+}
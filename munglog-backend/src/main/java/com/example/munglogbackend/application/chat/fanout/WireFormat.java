@@ -0,0 +1,133 @@
+package com.example.munglogbackend.application.chat.fanout;
+
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 방 브로드캐스트 / 채팅방 요약의 인코딩
+ * - 클라이언트는 CONNECT 프레임의 wire-format 헤더로 인코딩을 고르고, 서버는 구독 destination 뒤에 suffix를 붙여
+ *   해당 인코딩으로 발행되는 토픽을 구독시킨다. (/topic/chat.room.1 → /topic/chat.room.1.cbor)
+ * - 브로커 릴레이를 거치는 토픽은 구독자마다 본문을 바꿀 수 없으므로 인코딩마다 토픽을 나눠 한 번씩 발행한다.
+ */
+public enum WireFormat {
+    JSON("json", MimeTypeUtils.APPLICATION_JSON, ""),
+    CBOR("cbor", new MimeType("application", "cbor"), ".cbor");
+
+    public static final String HEADER = "wire-format";
+
+    private final String tag;
+    private final MimeType contentType;
+    private final String destinationSuffix;
+
+    WireFormat(String tag, MimeType contentType, String destinationSuffix) {
+        this.tag = tag;
+        this.contentType = contentType;
+        this.destinationSuffix = destinationSuffix;
+    }
+
+    public String tag() {
+        return tag;
+    }
+
+    public MimeType contentType() {
+        return contentType;
+    }
+
+    public String destination(String baseDestination) {
+        return baseDestination + destinationSuffix;
+    }
+
+    /**
+     * CONNECT 헤더 값으로 인코딩을 고른다. 모르는 값이거나 없으면 JSON
+     */
+    public static WireFormat of(String header) {
+        if (header != null && CBOR.tag.equalsIgnoreCase(header.trim())) {
+            return CBOR;
+        }
+        return JSON;
+    }
+
+    /**
+     * destination의 인코딩 suffix로 인코딩을 고른다. suffix가 없으면 JSON
+     */
+    public static WireFormat ofDestination(String destination) {
+        for (WireFormat format : values()) {
+            if (!format.destinationSuffix.isEmpty() && destination.endsWith(format.destinationSuffix)) {
+                return format;
+            }
+        }
+        return JSON;
+    }
+
+    /**
+     * 인코딩 suffix가 붙은 destination이면 suffix를 뗀 원래 destination을 반환한다.
+     */
+    public static String baseDestination(String destination) {
+        for (WireFormat format : values()) {
+            if (!format.destinationSuffix.isEmpty() && destination.endsWith(format.destinationSuffix)) {
+                return destination.substring(0, destination.length() - format.destinationSuffix.length());
+            }
+        }
+        return destination;
+    }
+
+    /**
+     * 요약 템플릿에서 찾을 "unreadCount 필드 + 자리 표시 값" 바이트열
+     */
+    byte[] unreadToken(long placeholder) {
+        if (this == JSON) {
+            return ("\"unreadCount\":" + placeholder).getBytes(StandardCharsets.UTF_8);
+        }
+        byte[] name = "unreadCount".getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(0x60 | name.length);      // CBOR text string (길이 < 24)
+        out.writeBytes(name);
+        out.writeBytes(cborInteger(placeholder));
+        return out.toByteArray();
+    }
+
+    /**
+     * unreadToken 중 값이 시작하는 위치
+     */
+    int unreadValueOffset(long placeholder) {
+        return unreadToken(placeholder).length - encodeUnread(placeholder).length;
+    }
+
+    byte[] encodeUnread(long value) {
+        if (this == JSON) {
+            return Long.toString(value).getBytes(StandardCharsets.US_ASCII);
+        }
+        return cborInteger(value);
+    }
+
+    /**
+     * CBOR 정수 (major type 0/1, 가장 짧은 길이로 인코딩 - Jackson CBORGenerator와 같은 규칙)
+     */
+    private static byte[] cborInteger(long value) {
+        int major = value < 0 ? 0x20 : 0x00;
+        long argument = value < 0 ? -1 - value : value;
+
+        if (argument < 24) {
+            return new byte[]{(byte) (major | argument)};
+        }
+        if (argument <= 0xFF) {
+            return new byte[]{(byte) (major | 24), (byte) argument};
+        }
+        if (argument <= 0xFFFF) {
+            return new byte[]{(byte) (major | 25), (byte) (argument >> 8), (byte) argument};
+        }
+        if (argument <= 0xFFFF_FFFFL) {
+            return new byte[]{(byte) (major | 26), (byte) (argument >> 24), (byte) (argument >> 16),
+                    (byte) (argument >> 8), (byte) argument};
+        }
+        byte[] bytes = new byte[9];
+        bytes[0] = (byte) (major | 27);
+        for (int i = 0; i < 8; i++) {
+            bytes[8 - i] = (byte) (argument >>> (8 * i));
+        }
+        return bytes;
+    }
+}
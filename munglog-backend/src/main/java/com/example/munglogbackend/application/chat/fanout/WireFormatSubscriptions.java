@@ -0,0 +1,95 @@
+package com.example.munglogbackend.application.chat.fanout;
+
+import com.example.munglogbackend.application.chat.required.ChatWireSubscriptionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 토픽별로 어떤 인코딩의 구독자가 있는지 기록하고, 팬아웃 단계에서 발행할 인코딩을 고른다.
+ * - JSON은 기본 인코딩이므로 항상 발행하고, 그 외 인코딩(CBOR)은 구독자가 있는 토픽에만 발행한다.
+ * - 구독 수는 StompEventListener가 SUBSCRIBE / UNSUBSCRIBE / 연결 종료 때 갱신한다.
+ * - 구독 수를 읽지 못하면 구독자를 놓치지 않도록 모든 인코딩으로 발행한다.
+ * - 노드가 비정상 종료되어 구독 수가 남더라도 구독자 없는 토픽에 더 발행될 뿐 메시지를 놓치지는 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WireFormatSubscriptions {
+    private final ChatWireSubscriptionRepository chatWireSubscriptionRepository;
+    private final ChatBroadcastEncoder broadcastEncoder;
+
+    /**
+     * @param destination 인코딩 suffix가 붙은 구독 destination
+     */
+    public void subscribed(String destination) {
+        WireFormat format = WireFormat.ofDestination(destination);
+        if (format == WireFormat.JSON) {
+            return;
+        }
+        try {
+            chatWireSubscriptionRepository.increment(format.tag(), WireFormat.baseDestination(destination));
+        } catch (Exception e) {
+            log.warn("인코딩별 구독 수 갱신 실패 (destination={})", destination, e);
+        }
+    }
+
+    public void unsubscribed(String destination) {
+        WireFormat format = WireFormat.ofDestination(destination);
+        if (format == WireFormat.JSON) {
+            return;
+        }
+        try {
+            chatWireSubscriptionRepository.decrement(format.tag(), WireFormat.baseDestination(destination));
+        } catch (Exception e) {
+            log.warn("인코딩별 구독 수 갱신 실패 (destination={})", destination, e);
+        }
+    }
+
+    public List<WireFormat> formatsFor(String baseDestination) {
+        return formatsFor(List.of(baseDestination)).get(baseDestination);
+    }
+
+    /**
+     * destination마다 발행할 인코딩 목록 (JSON이 항상 첫 번째)
+     */
+    public Map<String, List<WireFormat>> formatsFor(Collection<String> baseDestinations) {
+        List<WireFormat> enabled = broadcastEncoder.formats();
+        Map<String, List<WireFormat>> result = new HashMap<>();
+        if (enabled.size() == 1) {
+            for (String destination : baseDestinations) {
+                result.put(destination, enabled);
+            }
+            return result;
+        }
+
+        Map<String, List<WireFormat>> formatsByDestination = new HashMap<>();
+        for (String destination : baseDestinations) {
+            formatsByDestination.put(destination, new ArrayList<>(List.of(WireFormat.JSON)));
+        }
+        for (WireFormat format : enabled) {
+            if (format == WireFormat.JSON) {
+                continue;
+            }
+            Set<String> subscribed;
+            try {
+                subscribed = chatWireSubscriptionRepository.findSubscribed(format.tag(), baseDestinations);
+            } catch (Exception e) {
+                log.warn("인코딩별 구독 수 조회 실패, 모든 destination에 발행 (format={})", format.tag(), e);
+                subscribed = new HashSet<>(baseDestinations);
+            }
+            for (String destination : subscribed) {
+                formatsByDestination.get(destination).add(format);
+            }
+        }
+
+        // 같은 구성의 목록은 하나를 공유해 템플릿을 인코딩 구성마다 한 번만 고르게 한다.
+        Map<List<WireFormat>, List<WireFormat>> shared = new HashMap<>();
+        for (Map.Entry<String, List<WireFormat>> entry : formatsByDestination.entrySet()) {
+            result.put(entry.getKey(), shared.computeIfAbsent(entry.getValue(), List::copyOf));
+        }
+        return result;
+    }
+}
@@ -1,11 +1,18 @@
 package com.example.munglogbackend.application.chat.provided;
 
-import com.example.munglogbackend.application.chat.dto.ChatMessageDto;
+import com.example.munglogbackend.application.chat.dto.ChatHistoryRequest;
+import com.example.munglogbackend.application.chat.dto.ChatMessageFrame;
+import com.example.munglogbackend.application.chat.dto.ChatRoomHistory;
 import org.springframework.data.domain.Slice;
 
+import java.util.List;
+
 public interface ChatMessageFinder {
     // 특정 seq 이전 N건 조회하기
-    Slice<ChatMessageDto> fetchMessagesBeforeSeq(Long roomId, Long beforeSeq, int size, Long memberId);
+    Slice<ChatMessageFrame> fetchMessagesBeforeSeq(Long roomId, Long beforeSeq, int size, Long memberId);
+
+    // 여러 채팅방의 메시지를 한 번에 조회하기 (요청 순서대로 반환)
+    List<ChatRoomHistory> fetchMessagesBeforeSeq(List<ChatHistoryRequest> requests, Long memberId);
 
     // 특정 채팅방의 최신 메시지 seq 조회
     long findLatestMessageSeq(Long roomId);
@@ -1,8 +1,11 @@
 package com.example.munglogbackend.application.chat.provided;
 
 import com.example.munglogbackend.application.chat.dto.ChatRoomSummary;
+import com.example.munglogbackend.application.chat.dto.CursorSlice;
 import com.example.munglogbackend.domain.chat.entity.ChatParticipant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface ChatParticipantFinder {
     // 채팅방 참여자 목록
@@ -12,10 +15,13 @@ public interface ChatParticipantFinder {
     List<Long> findChatParticipantIdsExcludingMe(Long roomId, Long memberId);
 
     // 내가 속한 채팅방 목록
-    List<ChatRoomSummary> findRoomsByMember(Long memberId);
+    CursorSlice<ChatRoomSummary> findRoomsByMember(Long memberId, int limit, String before);
 
     ChatParticipant findByRoomIdAndMemberId(Long roomId, Long memberId);
 
     // 채팅방에 존재하는 멤버인지
     boolean isRoomMember(Long roomId, Long memberId);
+
+    // 채팅방 참여자들의 읽음 위치 (memberId -> lastReadSeq)
+    Map<Long, Long> findLastReadSeqs(Long roomId, Collection<Long> memberIds);
 }
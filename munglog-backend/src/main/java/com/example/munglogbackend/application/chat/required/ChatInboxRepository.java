@@ -0,0 +1,32 @@
+package com.example.munglogbackend.application.chat.required;
+
+import com.example.munglogbackend.application.chat.dto.ChatInboxCursor;
+import com.example.munglogbackend.application.chat.dto.ChatInboxRoom;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 회원별 inbox 인덱스 (chat:member:{memberId}:inbox, 마지막 메시지 시각 순 sorted set)
+ * - 방별 seq, 마지막 메시지, 읽음 위치는 채팅방 키에서 함께 읽어 요약을 만든다.
+ */
+public interface ChatInboxRepository {
+    /**
+     * before 이후(더 오래된) 채팅방을 최신 순으로 최대 count개 조회하고 inbox의 만료 시간을 연장한다.
+     *
+     * @return inbox가 아직 만들어지지 않았다면 Optional.empty()
+     */
+    Optional<List<ChatInboxRoom>> findPage(Long memberId, ChatInboxCursor before, int count, Duration ttl);
+
+    // DB에서 읽은 채팅방 목록으로 inbox를 새로 만든다. (읽음 위치, 채팅방 상태는 Redis에 없을 때만 채운다)
+    void rebuild(Long memberId, List<ChatInboxRoom> rooms, Duration ttl);
+
+    // 새 메시지가 도착한 채팅방을 이미 만들어진 참가자 inbox의 맨 앞으로 올린다.
+    void touch(Long roomId, Collection<Long> memberIds, Instant lastMessageAt);
+
+    // inbox를 지워 다음 조회 때 다시 만들도록 한다.
+    void invalidate(Collection<Long> memberIds);
+}
@@ -0,0 +1,214 @@
+package com.example.munglogbackend.application.chat.required;
+
+import com.example.munglogbackend.application.chat.dto.ChatInboxCursor;
+import com.example.munglogbackend.application.chat.dto.ChatInboxRoom;
+import com.example.munglogbackend.domain.chat.enumerate.ChatRoomType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+@Repository
+@RequiredArgsConstructor
+public class ChatInboxRepositoryImpl implements ChatInboxRepository {
+    // 커서 이후 항목을 읽는 한 번의 창 크기에 더하는 여유분 (커서와 같은 score인 방이 더 많으면 다음 창을 이어서 읽는다)
+    static final int TIE_WINDOW = 32;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * score가 max 이하인 inbox 항목을 Redis 정렬 순서((score DESC, member DESC))대로 offset부터 limit개 읽는다.
+     */
+    @FunctionalInterface
+    interface ScoreWindowReader {
+        List<TypedTuple<String>> read(double max, long offset, long limit);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<List<ChatInboxRoom>> findPage(Long memberId, ChatInboxCursor before, int count, Duration ttl) {
+        String inboxKey = ChatRedisKeys.inbox(memberId);
+        String loadedKey = ChatRedisKeys.inboxLoaded(memberId);
+        double max = before == null ? Double.POSITIVE_INFINITY : before.score();
+        int window = windowSize(before, count);
+
+        // 1) inbox 존재 여부 + 첫 번째 창 + 만료 연장
+        List<Object> indexResults = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            conn.exists(loadedKey);
+            conn.zRevRangeByScoreWithScores(inboxKey, Double.NEGATIVE_INFINITY, max, 0, window);
+            conn.expire(inboxKey, ttl.toSeconds());
+            conn.expire(loadedKey, ttl.toSeconds());
+            return null;
+        });
+
+        if (!Boolean.TRUE.equals(indexResults.get(0))) {
+            return Optional.empty();
+        }
+
+        Set<TypedTuple<String>> firstWindow = (Set<TypedTuple<String>>) indexResults.get(1);
+        List<TypedTuple<String>> page = pageAfter(before, count, (windowMax, offset, limit) -> {
+            Set<TypedTuple<String>> tuples = offset == 0
+                    ? firstWindow
+                    : stringRedisTemplate.opsForZSet().reverseRangeByScoreWithScores(
+                            inboxKey, Double.NEGATIVE_INFINITY, windowMax, offset, limit);
+            return tuples == null ? List.of() : new ArrayList<>(tuples);
+        });
+
+        if (page.isEmpty()) {
+            return Optional.of(List.of());
+        }
+
+        List<Long> roomIds = new ArrayList<>(page.size());
+        List<Long> scores = new ArrayList<>(page.size());
+        for (TypedTuple<String> tuple : page) {
+            roomIds.add(Long.valueOf(tuple.getValue()));
+            scores.add(tuple.getScore() == null ? 0L : tuple.getScore().longValue());
+        }
+        return Optional.of(readRooms(memberId, roomIds, scores));
+    }
+
+    /**
+     * 커서 다음 항목부터 count개를 고른다.
+     * 같은 score는 member 문자열 역순으로 정렬되므로 커서와 같은 score이면서 member가 커서 이상인 항목을 건너뛴다.
+     * 건너뛴 항목 때문에 창이 모자라면 다음 창을 이어서 읽으므로, 같은 score인 방이 아무리 많아도 빠지는 방이 없다.
+     */
+    static List<TypedTuple<String>> pageAfter(ChatInboxCursor before, int count, ScoreWindowReader reader) {
+        double max = before == null ? Double.POSITIVE_INFINITY : before.score();
+        String cursorMember = before == null ? null : String.valueOf(before.roomId());
+        int window = windowSize(before, count);
+
+        List<TypedTuple<String>> page = new ArrayList<>(count);
+        long offset = 0;
+        while (page.size() < count) {
+            List<TypedTuple<String>> tuples = reader.read(max, offset, window);
+            for (TypedTuple<String> tuple : tuples) {
+                long score = tuple.getScore() == null ? 0L : tuple.getScore().longValue();
+                if (before != null && score == before.score() && tuple.getValue().compareTo(cursorMember) >= 0) {
+                    continue;
+                }
+                page.add(tuple);
+                if (page.size() == count) {
+                    break;
+                }
+            }
+
+            if (tuples.size() < window) {
+                break;
+            }
+            offset += window;
+        }
+        return page;
+    }
+
+    private static int windowSize(ChatInboxCursor before, int count) {
+        return before == null ? count : count + TIE_WINDOW;
+    }
+
+    /**
+     * 2) 방별 seq, 마지막 메시지, 회원의 읽음 위치를 한 번의 파이프라인으로 조회
+     */
+    @SuppressWarnings("unchecked")
+    private List<ChatInboxRoom> readRooms(Long memberId, List<Long> roomIds, List<Long> scores) {
+        String field = String.valueOf(memberId);
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (Long roomId : roomIds) {
+                conn.get(ChatRedisKeys.seq(roomId));
+                conn.hMGet(ChatRedisKeys.roomState(roomId), "type", "last_message_at", "last_message_preview");
+                conn.hGet(ChatRedisKeys.readCursor(roomId), field);
+            }
+            return null;
+        });
+
+        List<ChatInboxRoom> rooms = new ArrayList<>(roomIds.size());
+        for (int i = 0; i < roomIds.size(); i++) {
+            Object seq = results.get(i * 3);
+            List<Object> state = (List<Object>) results.get(i * 3 + 1);
+            Object lastReadSeq = results.get(i * 3 + 2);
+            long score = scores.get(i);
+
+            Object type = state == null ? null : state.get(0);
+            Object lastMessageAt = state == null ? null : state.get(1);
+            Object preview = state == null ? null : state.get(2);
+
+            rooms.add(new ChatInboxRoom(
+                    roomIds.get(i),
+                    score,
+                    type == null ? null : ChatRoomType.valueOf(type.toString()),
+                    seq == null ? 0L : Long.parseLong(seq.toString()),
+                    Instant.ofEpochMilli(lastMessageAt == null ? score : Long.parseLong(lastMessageAt.toString())),
+                    preview == null || preview.toString().isEmpty() ? null : preview.toString(),
+                    lastReadSeq == null ? 0L : Long.parseLong(lastReadSeq.toString())
+            ));
+        }
+        return rooms;
+    }
+
+    @Override
+    public void rebuild(Long memberId, List<ChatInboxRoom> rooms, Duration ttl) {
+        String inboxKey = ChatRedisKeys.inbox(memberId);
+        String field = String.valueOf(memberId);
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            conn.del(inboxKey);
+            for (ChatInboxRoom room : rooms) {
+                String stateKey = ChatRedisKeys.roomState(room.roomId());
+                conn.zAdd(inboxKey, room.score(), String.valueOf(room.roomId()));
+                conn.hSetNX(ChatRedisKeys.readCursor(room.roomId()), field, String.valueOf(room.lastReadSeq()));
+                conn.hSetNX(stateKey, "type", room.chatRoomType().name());
+                if (room.lastMessageAt() != null) {
+                    conn.hSetNX(stateKey, "last_message_at", String.valueOf(room.lastMessageAt().toEpochMilli()));
+                }
+                if (room.lastMessagePreview() != null) {
+                    conn.hSetNX(stateKey, "last_message_preview", room.lastMessagePreview());
+                }
+            }
+            conn.expire(inboxKey, ttl.toSeconds());
+            conn.set(ChatRedisKeys.inboxLoaded(memberId), "1", Expiration.from(ttl), SetOption.upsert());
+            return null;
+        });
+    }
+
+    @Override
+    public void touch(Long roomId, Collection<Long> memberIds, Instant lastMessageAt) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>(memberIds.size() * 2);
+        for (Long memberId : memberIds) {
+            keys.add(ChatRedisKeys.inbox(memberId));
+            keys.add(ChatRedisKeys.inboxLoaded(memberId));
+        }
+        stringRedisTemplate.execute(
+                ChatRedisScripts.TOUCH_INBOX,
+                keys,
+                String.valueOf(roomId),
+                String.valueOf(lastMessageAt.toEpochMilli())
+        );
+    }
+
+    @Override
+    public void invalidate(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>(memberIds.size() * 2);
+        for (Long memberId : memberIds) {
+            keys.add(ChatRedisKeys.inbox(memberId));
+            keys.add(ChatRedisKeys.inboxLoaded(memberId));
+        }
+        stringRedisTemplate.delete(keys);
+    }
+}
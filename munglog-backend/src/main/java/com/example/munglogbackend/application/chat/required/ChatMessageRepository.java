@@ -5,8 +5,8 @@ import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
-import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -14,9 +14,15 @@ import java.util.List;
 
 @Repository
 public interface ChatMessageRepository extends MongoRepository<ChatMessage, String>, ChatMessageRepositoryCustom {
+    // 히스토리 조회 시 ChatMessageDto에 필요한 필드만 읽는다. (ChatMessageIndexInitializer의 uk_room_id_seq 인덱스 사용)
+    String HISTORY_FIELDS = "{ '_id': 0, 'room_id': 1, 'sender_id': 1, 'type': 1, 'content': 1, "
+            + "'file_url': 1, 'file_name': 1, 'file_size': 1, 'seq': 1, 'created_at': 1 }";
+
     // 최근 메시지 N건: roomId 일치, seq DESC, limit(pageable)
+    @Query(value = "{ 'room_id': ?0 }", fields = HISTORY_FIELDS, sort = "{ 'seq': -1 }")
     List<ChatMessage> findByRoomIdOrderBySeqDesc(Long roomId, Pageable pageable);
 
     // 특정 seq 이전 N건 조회
+    @Query(value = "{ 'room_id': ?0, 'seq': { '$lt': ?1 } }", fields = HISTORY_FIELDS, sort = "{ 'seq': -1 }")
     List<ChatMessage> findByRoomIdAndSeqLessThanOrderBySeqDesc(Long roomId, Long beforeSeq, Pageable pageable);
 }
\ No newline at end of file
@@ -15,10 +15,6 @@ public class ChatMessageRepositoryImpl implements ChatMessageRepositoryCustom {
 
     private final StringRedisTemplate stringRedisTemplate;
 
-    private String key(Long roomId) {
-        return "chat:room:" + roomId + ":seq";
-    }
-
     @Override
     public Map<Long, Long> findMaxSeqForRoomIds(Collection<Long> roomIds) {
         Map<Long, Long> result = new LinkedHashMap<>();
@@ -32,7 +28,7 @@ public class ChatMessageRepositoryImpl implements ChatMessageRepositoryCustom {
 
         // Redis multiGet 사용 (한 번에 조회)
         List<String> keys = roomIds.stream()
-                .map(this::key)
+                .map(ChatRedisKeys::seq)
                 .toList();
 
         List<String> values = stringRedisTemplate.opsForValue().multiGet(keys);
@@ -60,7 +56,7 @@ public class ChatMessageRepositoryImpl implements ChatMessageRepositoryCustom {
     }
     @Override
     public long findLatestMessageSeq(Long roomId) {
-        String value = stringRedisTemplate.opsForValue().get(key(roomId));
+        String value = stringRedisTemplate.opsForValue().get(ChatRedisKeys.seq(roomId));
 
         if (value == null) {
             return 0L; // 메시지 없는 방 → seq=0
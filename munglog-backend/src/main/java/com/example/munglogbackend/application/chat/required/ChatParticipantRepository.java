@@ -1,5 +1,6 @@
 package com.example.munglogbackend.application.chat.required;
 
+import com.example.munglogbackend.application.chat.dto.ChatReadCursor;
 import com.example.munglogbackend.domain.chat.entity.ChatParticipant;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -7,11 +8,12 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ChatParticipantRepository extends JpaRepository<ChatParticipant, Long> {
+public interface ChatParticipantRepository extends JpaRepository<ChatParticipant, Long>, ChatParticipantRepositoryCustom {
     // 기존 메서드: @EntityGraph 추가
     @EntityGraph(attributePaths = {"member", "chatRoom"})
     Optional<ChatParticipant> findByChatRoom_IdAndMember_Id(Long roomId, Long memberId);
@@ -36,4 +38,52 @@ public interface ChatParticipantRepository extends JpaRepository<ChatParticipant
             @Param("roomId") Long roomId,
             @Param("memberId") Long memberId
     );
-}
\ No newline at end of file
+
+    // roomId에 해당하는 활성 회원 ID 목록 (참가자 명단 캐시 로딩용)
+    @Query("""
+        SELECT cp.member.id
+        FROM ChatParticipant cp
+        WHERE cp.chatRoom.id = :roomId
+          AND cp.member.isDeleted = false
+        """)
+    List<Long> findActiveMemberIdsByChatRoomId(@Param("roomId") Long roomId);
+
+    // roomIds 중 memberId가 활성 참가자인 방 ID 목록 (여러 방의 멤버 여부를 한 번에 확인)
+    @Query("""
+        SELECT cp.chatRoom.id
+        FROM ChatParticipant cp
+        WHERE cp.member.id = :memberId
+          AND cp.member.isDeleted = false
+          AND cp.chatRoom.id IN :roomIds
+        """)
+    List<Long> findActiveChatRoomIdsByMemberId(
+            @Param("memberId") Long memberId,
+            @Param("roomIds") Collection<Long> roomIds
+    );
+
+    // roomId 채팅방에서 memberIds의 읽음 위치만 조회 (Redis에 읽음 위치가 없는 참가자 보완용)
+    @Query("""
+        SELECT new com.example.munglogbackend.application.chat.dto.ChatReadCursor(
+            cp.chatRoom.id, cp.member.id, cp.lastReadSeq, cp.lastReadAt)
+        FROM ChatParticipant cp
+        WHERE cp.chatRoom.id = :roomId
+          AND cp.member.id IN :memberIds
+        """)
+    List<ChatReadCursor> findReadCursors(
+            @Param("roomId") Long roomId,
+            @Param("memberIds") Collection<Long> memberIds
+    );
+
+    // memberId의 roomIds 채팅방 읽음 위치만 조회 (Redis에 읽음 위치가 없는 방 보완용)
+    @Query("""
+        SELECT new com.example.munglogbackend.application.chat.dto.ChatReadCursor(
+            cp.chatRoom.id, cp.member.id, cp.lastReadSeq, cp.lastReadAt)
+        FROM ChatParticipant cp
+        WHERE cp.member.id = :memberId
+          AND cp.chatRoom.id IN :roomIds
+        """)
+    List<ChatReadCursor> findReadCursorsByMember(
+            @Param("memberId") Long memberId,
+            @Param("roomIds") Collection<Long> roomIds
+    );
+}
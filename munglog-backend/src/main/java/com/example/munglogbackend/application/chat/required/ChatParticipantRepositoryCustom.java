@@ -0,0 +1,14 @@
+package com.example.munglogbackend.application.chat.required;
+
+import com.example.munglogbackend.application.chat.dto.ChatReadCursor;
+
+import java.util.List;
+
+public interface ChatParticipantRepositoryCustom {
+    /**
+     * 읽음 위치를 JDBC 배치로 반영한다. 저장된 값보다 앞선 경우에만 갱신된다.
+     *
+     * @return 실제로 갱신된 행 수
+     */
+    int batchUpdateLastRead(List<ChatReadCursor> readCursors);
+}
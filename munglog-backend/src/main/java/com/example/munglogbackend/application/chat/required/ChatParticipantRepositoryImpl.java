@@ -0,0 +1,48 @@
+package com.example.munglogbackend.application.chat.required;
+
+import com.example.munglogbackend.application.chat.dto.ChatReadCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class ChatParticipantRepositoryImpl implements ChatParticipantRepositoryCustom {
+    private static final String UPDATE_LAST_READ_SQL = """
+            UPDATE chat_participants
+            SET last_read_seq = ?, last_read_at = ?
+            WHERE chat_room_id = ?
+              AND member_id = ?
+              AND last_read_seq < ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int batchUpdateLastRead(List<ChatReadCursor> readCursors) {
+        if (readCursors.isEmpty()) {
+            return 0;
+        }
+
+        int[][] results = jdbcTemplate.batchUpdate(UPDATE_LAST_READ_SQL, readCursors, readCursors.size(), (ps, cursor) -> {
+            ps.setLong(1, cursor.lastReadSeq());
+            ps.setTimestamp(2, cursor.lastReadAt() == null ? null : Timestamp.from(cursor.lastReadAt()));
+            ps.setLong(3, cursor.roomId());
+            ps.setLong(4, cursor.memberId());
+            ps.setLong(5, cursor.lastReadSeq());
+        });
+
+        int updated = 0;
+        for (int[] batch : results) {
+            for (int count : batch) {
+                if (count > 0) {
+                    updated += count;
+                }
+            }
+        }
+        return updated;
+    }
+}
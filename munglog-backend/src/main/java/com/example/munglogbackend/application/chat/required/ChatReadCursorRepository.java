@@ -0,0 +1,37 @@
+package com.example.munglogbackend.application.chat.required;
+
+import com.example.munglogbackend.application.chat.dto.ChatReadCursor;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis에 보관하는 채팅방 읽음 위치 (chat:room:{roomId}:read, :read-at 해시)
+ * - 조회는 이 저장소를 기준으로 하고, chat_participants에는 주기적으로 일괄 반영한다.
+ * - Redis에 값이 없는 참가자는 null(맵에서 누락)로 돌려주며 호출 측에서 DB 값으로 보완한 뒤 backfill로 채운다.
+ */
+public interface ChatReadCursorRepository {
+    /**
+     * 읽음 위치를 seq까지 앞으로 이동시킨다. 이미 더 앞에 있다면 변경하지 않는다.
+     *
+     * @return 적용 후 읽음 위치
+     */
+    long advance(Long roomId, Long memberId, long seq, Instant readAt);
+
+    // 한 채팅방에서 여러 참가자의 읽음 위치 (memberId -> lastReadSeq)
+    Map<Long, Long> findLastReadSeqs(Long roomId, Collection<Long> memberIds);
+
+    // 한 참가자의 여러 채팅방 읽음 위치 (roomId -> lastReadSeq)
+    Map<Long, Long> findLastReadSeqsByMember(Long memberId, Collection<Long> roomIds);
+
+    // DB에서 읽은 읽음 위치를 Redis에 채운다. (HSETNX: 그 사이 기록된 더 최신 값은 덮어쓰지 않으며 반영 대기 목록에도 넣지 않는다)
+    void backfill(Collection<ChatReadCursor> readCursors);
+
+    // Postgres 반영 대기 중인 읽음 위치를 최대 count개 꺼낸다.
+    List<ChatReadCursor> popDirty(int count);
+
+    // 반영에 실패한 읽음 위치를 대기 목록에 되돌린다.
+    void restoreDirty(Collection<ChatReadCursor> readCursors);
+}
@@ -0,0 +1,147 @@
+package com.example.munglogbackend.application.chat.required;
+
+import com.example.munglogbackend.application.chat.dto.ChatReadCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.*;
+
+@Repository
+@RequiredArgsConstructor
+public class ChatReadCursorRepositoryImpl implements ChatReadCursorRepository {
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public long advance(Long roomId, Long memberId, long seq, Instant readAt) {
+        Long applied = stringRedisTemplate.execute(
+                ChatRedisScripts.ADVANCE_READ_CURSOR,
+                List.of(
+                        ChatRedisKeys.readCursor(roomId),
+                        ChatRedisKeys.readAt(roomId),
+                        ChatRedisKeys.DIRTY_READ_CURSORS
+                ),
+                String.valueOf(roomId),
+                String.valueOf(memberId),
+                String.valueOf(seq),
+                String.valueOf(readAt.toEpochMilli())
+        );
+        return applied == null ? seq : applied;
+    }
+
+    @Override
+    public Map<Long, Long> findLastReadSeqs(Long roomId, Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> ids = new ArrayList<>(memberIds);
+        List<Object> values = stringRedisTemplate.opsForHash().multiGet(
+                ChatRedisKeys.readCursor(roomId),
+                ids.stream().map(id -> (Object) String.valueOf(id)).toList()
+        );
+        return zip(ids, values);
+    }
+
+    @Override
+    public Map<Long, Long> findLastReadSeqsByMember(Long memberId, Collection<Long> roomIds) {
+        if (roomIds.isEmpty()) {
+            return Map.of();
+        }
+
+        // 방마다 키가 다르므로 파이프라인으로 한 번에 조회
+        List<Long> ids = new ArrayList<>(roomIds);
+        String field = String.valueOf(memberId);
+        List<Object> values = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (Long roomId : ids) {
+                conn.hGet(ChatRedisKeys.readCursor(roomId), field);
+            }
+            return null;
+        });
+        return zip(ids, values);
+    }
+
+    @Override
+    public void backfill(Collection<ChatReadCursor> readCursors) {
+        if (readCursors.isEmpty()) {
+            return;
+        }
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (ChatReadCursor cursor : readCursors) {
+                String field = String.valueOf(cursor.memberId());
+                conn.hSetNX(ChatRedisKeys.readCursor(cursor.roomId()), field, String.valueOf(cursor.lastReadSeq()));
+                if (cursor.lastReadAt() != null) {
+                    conn.hSetNX(ChatRedisKeys.readAt(cursor.roomId()), field, String.valueOf(cursor.lastReadAt().toEpochMilli()));
+                }
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public List<ChatReadCursor> popDirty(int count) {
+        List<String> members = stringRedisTemplate.opsForSet().pop(ChatRedisKeys.DIRTY_READ_CURSORS, count);
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+
+        List<long[]> keys = members.stream()
+                .map(member -> {
+                    int idx = member.indexOf(':');
+                    return new long[]{Long.parseLong(member.substring(0, idx)), Long.parseLong(member.substring(idx + 1))};
+                })
+                .toList();
+
+        // 읽음 위치와 읽은 시각을 파이프라인으로 한 번에 조회
+        List<Object> values = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (long[] key : keys) {
+                String field = String.valueOf(key[1]);
+                conn.hGet(ChatRedisKeys.readCursor(key[0]), field);
+                conn.hGet(ChatRedisKeys.readAt(key[0]), field);
+            }
+            return null;
+        });
+
+        List<ChatReadCursor> cursors = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            Object seq = values.get(i * 2);
+            Object readAt = values.get(i * 2 + 1);
+            if (seq == null) {
+                continue;
+            }
+            cursors.add(new ChatReadCursor(
+                    keys.get(i)[0],
+                    keys.get(i)[1],
+                    Long.parseLong(seq.toString()),
+                    readAt == null ? null : Instant.ofEpochMilli(Long.parseLong(readAt.toString()))
+            ));
+        }
+        return cursors;
+    }
+
+    @Override
+    public void restoreDirty(Collection<ChatReadCursor> readCursors) {
+        if (!readCursors.isEmpty()) {
+            stringRedisTemplate.opsForSet().add(ChatRedisKeys.DIRTY_READ_CURSORS,
+                    readCursors.stream().map(c -> c.roomId() + ":" + c.memberId()).toArray(String[]::new));
+        }
+    }
+
+    private static Map<Long, Long> zip(List<Long> ids, List<Object> values) {
+        Map<Long, Long> result = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Object value = values.get(i);
+            if (value != null) {
+                result.put(ids.get(i), Long.parseLong(value.toString()));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.munglogbackend.application.chat.required;
+
+import com.example.munglogbackend.application.chat.dto.RecentMessageWindow;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Redis에 보관하는 채팅방별 최근 메시지 링 (chat:room:{roomId}:recent, :recent:floor, :recent:holes)
+ * - 새 메시지는 ChatRoomStateRepository.appendMessage 스크립트에서 함께 추가된다.
+ */
+public interface ChatRecentMessageRepository {
+    // 링이 없으면 Optional.empty()
+    Optional<RecentMessageWindow> find(Long roomId);
+
+    // 저장되지 않은 것으로 기록된 seq
+    Set<Long> findHoles(Long roomId);
+
+    /**
+     * Mongo에서 읽은 최근 메시지로 링을 새로 채운다.
+     * Mongo를 읽은 뒤 seq 카운터가 expectedSeq에서 바뀌었거나 이미 최신 링이 있으면 교체하지 않는다.
+     *
+     * @param newHoles Mongo 조회로 새로 확인된 빈자리 seq
+     * @return 교체했으면 true
+     */
+    boolean replace(Long roomId, RecentMessageWindow window, long expectedSeq, Collection<Long> newHoles, Duration ttl);
+
+    // 저장에 실패한 메시지를 링에서 제거하고 빈자리로 기록한다.
+    void discard(Long roomId, long seq, Duration ttl);
+}
@@ -0,0 +1,102 @@
+package com.example.munglogbackend.application.chat.required;
+
+import com.example.munglogbackend.application.chat.dto.RecentMessage;
+import com.example.munglogbackend.application.chat.dto.RecentMessageWindow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.*;
+
+@Repository
+@RequiredArgsConstructor
+public class ChatRecentMessageRepositoryImpl implements ChatRecentMessageRepository {
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RecentMessageCodec recentMessageCodec;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<RecentMessageWindow> find(Long roomId) {
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            conn.get(ChatRedisKeys.recentMessagesFloor(roomId));
+            conn.zRange(ChatRedisKeys.recentMessages(roomId), 0, -1);
+            conn.zRange(ChatRedisKeys.recentMessageHoles(roomId), 0, -1);
+            return null;
+        });
+
+        Object floor = results.get(0);
+        if (floor == null) {
+            return Optional.empty();
+        }
+
+        Collection<String> members = (Collection<String>) results.get(1);
+        List<RecentMessage> messages = new ArrayList<>(members == null ? 0 : members.size());
+        if (members != null) {
+            for (String member : members) {
+                messages.add(recentMessageCodec.decode(member));
+            }
+        }
+        return Optional.of(new RecentMessageWindow((long) Double.parseDouble(floor.toString()), messages,
+                toSeqs((Collection<String>) results.get(2))));
+    }
+
+    @Override
+    public Set<Long> findHoles(Long roomId) {
+        return toSeqs(stringRedisTemplate.opsForZSet().range(ChatRedisKeys.recentMessageHoles(roomId), 0, -1));
+    }
+
+    @Override
+    public boolean replace(Long roomId, RecentMessageWindow window, long expectedSeq, Collection<Long> newHoles,
+                           Duration ttl) {
+        List<RecentMessage> messages = window.messages();
+        List<String> args = new ArrayList<>(4 + messages.size() * 2 + newHoles.size());
+        args.add(String.valueOf(expectedSeq));
+        args.add(String.valueOf(window.floor()));
+        args.add(String.valueOf(ttl.toSeconds()));
+        args.add(String.valueOf(messages.size()));
+        for (RecentMessage message : messages) {
+            args.add(String.valueOf(message.seq()));
+            args.add(recentMessageCodec.encode(message));
+        }
+        for (Long hole : newHoles) {
+            args.add(String.valueOf(hole));
+        }
+
+        Long replaced = stringRedisTemplate.execute(
+                ChatRedisScripts.REPLACE_RECENT_MESSAGES,
+                List.of(
+                        ChatRedisKeys.recentMessages(roomId),
+                        ChatRedisKeys.recentMessagesFloor(roomId),
+                        ChatRedisKeys.recentMessageHoles(roomId),
+                        ChatRedisKeys.seq(roomId)
+                ),
+                args.toArray()
+        );
+        return replaced != null && replaced == 1L;
+    }
+
+    @Override
+    public void discard(Long roomId, long seq, Duration ttl) {
+        stringRedisTemplate.execute(
+                ChatRedisScripts.DISCARD_RECENT_MESSAGE,
+                List.of(ChatRedisKeys.recentMessages(roomId), ChatRedisKeys.recentMessageHoles(roomId)),
+                String.valueOf(seq),
+                String.valueOf(ttl.toSeconds())
+        );
+    }
+
+    private static Set<Long> toSeqs(Collection<String> values) {
+        if (values == null || values.isEmpty()) {
+            return Set.of();
+        }
+        Set<Long> seqs = new HashSet<>(values.size());
+        for (String value : values) {
+            seqs.add(Long.parseLong(value));
+        }
+        return seqs;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.munglogbackend.application.chat.required;
+
+/**
+ * 채팅 관련 Redis 키 모음
+ */
+public final class ChatRedisKeys {
+    public static final String DIRTY_ROOMS = "chat:dirty:rooms";
+    public static final String DIRTY_READ_CURSORS = "chat:dirty:read-cursors";
+
+    private ChatRedisKeys() {
+    }
+
+    public static String seq(Long roomId) {
+        return "chat:room:" + roomId + ":seq";
+    }
+
+    public static String roomState(Long roomId) {
+        return "chat:room:" + roomId + ":state";
+    }
+
+    public static String readCursor(Long roomId) {
+        return "chat:room:" + roomId + ":read";
+    }
+
+    public static String readAt(Long roomId) {
+        return "chat:room:" + roomId + ":read-at";
+    }
+
+    public static String recentMessages(Long roomId) {
+        return "chat:room:" + roomId + ":recent";
+    }
+
+    public static String recentMessagesFloor(Long roomId) {
+        return "chat:room:" + roomId + ":recent:floor";
+    }
+
+    public static String recentMessageHoles(Long roomId) {
+        return "chat:room:" + roomId + ":recent:holes";
+    }
+
+    public static String inbox(Long memberId) {
+        return "chat:member:" + memberId + ":inbox";
+    }
+
+    public static String inboxLoaded(Long memberId) {
+        return "chat:member:" + memberId + ":inbox:loaded";
+    }
+
+    public static String wireSubscriptions(String formatTag) {
+        return "chat:wire:" + formatTag + ":subscriptions";
+    }
+}
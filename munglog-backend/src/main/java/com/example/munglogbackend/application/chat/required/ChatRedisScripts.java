@@ -0,0 +1,28 @@
+package com.example.munglogbackend.application.chat.required;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+
+/**
+ * 채팅 관련 Redis Lua 스크립트 모음 (resources/redis)
+ */
+final class ChatRedisScripts {
+    static final RedisScript<Long> APPEND_MESSAGE = load("redis/append-message.lua");
+    static final RedisScript<Long> ADVANCE_READ_CURSOR = load("redis/advance-read-cursor.lua");
+    static final RedisScript<Long> TOUCH_INBOX = load("redis/touch-inbox.lua");
+    static final RedisScript<Long> REPLACE_RECENT_MESSAGES = load("redis/replace-recent-messages.lua");
+    static final RedisScript<Long> DISCARD_RECENT_MESSAGE = load("redis/discard-recent-message.lua");
+    static final RedisScript<Long> DECREMENT_SUBSCRIPTION = load("redis/decrement-subscription.lua");
+
+    private ChatRedisScripts() {
+    }
+
+    private static RedisScript<Long> load(String path) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource(path)));
+        script.setResultType(Long.class);
+        return script;
+    }
+}
@@ -3,14 +3,33 @@ package com.example.munglogbackend.application.chat.required;
 import com.example.munglogbackend.domain.chat.entity.ChatRoom;
 import com.example.munglogbackend.domain.chat.enumerate.ChatRoomType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.time.Instant;
+import java.util.Optional;
 
 @Repository
 public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long>, ChatRoomRepositoryCustom {
-    @Query("select c from ChatRoom c where c.chatRoomType = :type")
-    List<ChatRoom> findAllByChatRoomType(@Param("type") ChatRoomType type);
-}
\ No newline at end of file
+    // 채팅방 타입만 조회 (참가자 명단 캐시 로딩용)
+    @Query("select c.chatRoomType from ChatRoom c where c.id = :roomId")
+    Optional<ChatRoomType> findChatRoomTypeById(@Param("roomId") Long roomId);
+
+    // Redis에 기록된 마지막 메시지를 반영 (더 최신 값일 때만 갱신)
+    @Transactional
+    @Modifying
+    @Query("""
+        UPDATE ChatRoom c
+        SET c.lastMessageAt = :lastMessageAt, c.lastMessagePreview = :preview
+        WHERE c.id = :roomId
+          AND (c.lastMessageAt IS NULL OR c.lastMessageAt < :lastMessageAt)
+        """)
+    int updateLastMessage(
+            @Param("roomId") Long roomId,
+            @Param("lastMessageAt") Instant lastMessageAt,
+            @Param("preview") String preview
+    );
+}
@@ -1,9 +1,16 @@
 package com.example.munglogbackend.application.chat.required;
 
+import com.example.munglogbackend.application.chat.dto.ChatRoomCursor;
+import com.example.munglogbackend.application.chat.dto.ChatRoomListing;
 import com.example.munglogbackend.domain.chat.entity.ChatRoom;
+import com.example.munglogbackend.domain.chat.enumerate.ChatRoomType;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface ChatRoomRepositoryCustom {
     Optional<ChatRoom> findByMembers(Long memberAId, Long memberBId);
-}
\ No newline at end of file
+
+    // (last_message_at DESC, id DESC) 순으로 before 다음 채팅방을 limit개 조회 (before가 null이면 첫 페이지)
+    List<ChatRoomListing> findListingsByType(ChatRoomType type, ChatRoomCursor before, int limit);
+}
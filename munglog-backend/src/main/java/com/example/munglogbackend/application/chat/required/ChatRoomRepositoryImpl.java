@@ -1,16 +1,21 @@
 package com.example.munglogbackend.application.chat.required;
 
+import com.example.munglogbackend.application.chat.dto.ChatRoomCursor;
+import com.example.munglogbackend.application.chat.dto.ChatRoomListing;
 import com.example.munglogbackend.domain.chat.entity.ChatRoom;
 import com.example.munglogbackend.domain.chat.entity.QChatParticipant;
 import com.example.munglogbackend.domain.chat.entity.QChatRoom;
+import com.example.munglogbackend.domain.chat.enumerate.ChatRoomType;
 import com.example.munglogbackend.domain.chat.exception.ChatErrorType;
 import com.example.munglogbackend.domain.chat.exception.ChatException;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -67,4 +72,28 @@ public class ChatRoomRepositoryImpl implements ChatRoomRepositoryCustom {
 
         return Optional.ofNullable(room);
     }
+
+    @Override
+    public List<ChatRoomListing> findListingsByType(ChatRoomType type, ChatRoomCursor before, int limit) {
+        QChatRoom cr = QChatRoom.chatRoom;
+
+        // 키셋 조건: (last_message_at, id) < (before.lastMessageAt, before.roomId)
+        BooleanExpression afterCursor = before == null ? null : cr.lastMessageAt.lt(before.lastMessageAt())
+                .or(cr.lastMessageAt.eq(before.lastMessageAt()).and(cr.id.lt(before.roomId())));
+
+        return queryFactory
+                .select(Projections.constructor(ChatRoomListing.class,
+                        cr.id,
+                        cr.chatRoomType,
+                        cr.lastMessageAt,
+                        cr.lastMessagePreview))
+                .from(cr)
+                .where(
+                        cr.chatRoomType.eq(type),
+                        afterCursor
+                )
+                .orderBy(cr.lastMessageAt.desc(), cr.id.desc())
+                .limit(limit)
+                .fetch();
+    }
 }
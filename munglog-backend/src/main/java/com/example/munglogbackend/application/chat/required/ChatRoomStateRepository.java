@@ -0,0 +1,30 @@
+package com.example.munglogbackend.application.chat.required;
+
+import com.example.munglogbackend.application.chat.dto.ChatRoomState;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ChatRoomStateRepository {
+    /**
+     * 방의 다음 seq를 발급한다. 메시지는 이 seq로 Mongo에 먼저 저장한 뒤 appendMessage로 반영한다.
+     */
+    long reserveSeq(Long roomId);
+
+    /**
+     * Mongo에 저장된 메시지를 방의 마지막 메시지와 발신자 읽음 위치에 한 번의 왕복으로 반영한다. (seq가 더 클 때만 갱신)
+     * 변경된 방과 읽음 위치는 Postgres 동기화 대기 목록에 기록된다.
+     * recentEntry가 있으면 최근 메시지 링(만들어져 있는 경우)에도 함께 추가한다.
+     */
+    void appendMessage(Long roomId, long seq, Long senderId, String preview, Instant createdAt, String recentEntry);
+
+    Optional<ChatRoomState> findState(Long roomId);
+
+    // Postgres 동기화 대기 중인 방 ID를 최대 count개 꺼낸다.
+    List<Long> popDirtyRoomIds(int count);
+
+    // 동기화에 실패한 방을 대기 목록에 되돌린다.
+    void restoreDirtyRooms(Collection<Long> roomIds);
+}
@@ -0,0 +1,94 @@
+package com.example.munglogbackend.application.chat.required;
+
+import com.example.munglogbackend.application.chat.dto.ChatRoomState;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class ChatRoomStateRepositoryImpl implements ChatRoomStateRepository {
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${chat.recent-cache.size:200}")
+    private int recentCapacity;
+
+    @Override
+    public long reserveSeq(Long roomId) {
+        Long seq = stringRedisTemplate.opsForValue().increment(ChatRedisKeys.seq(roomId));
+        if (seq == null) {
+            throw new IllegalStateException("Redis seq 발급 실패 (roomId=" + roomId + ")");
+        }
+        return seq;
+    }
+
+    @Override
+    public void appendMessage(Long roomId, long seq, Long senderId, String preview, Instant createdAt, String recentEntry) {
+        Long applied = stringRedisTemplate.execute(
+                ChatRedisScripts.APPEND_MESSAGE,
+                List.of(
+                        ChatRedisKeys.roomState(roomId),
+                        ChatRedisKeys.readCursor(roomId),
+                        ChatRedisKeys.readAt(roomId),
+                        ChatRedisKeys.DIRTY_ROOMS,
+                        ChatRedisKeys.DIRTY_READ_CURSORS,
+                        ChatRedisKeys.recentMessages(roomId),
+                        ChatRedisKeys.recentMessagesFloor(roomId),
+                        ChatRedisKeys.recentMessageHoles(roomId)
+                ),
+                String.valueOf(roomId),
+                String.valueOf(senderId),
+                String.valueOf(seq),
+                String.valueOf(createdAt.toEpochMilli()),
+                preview == null ? "" : preview,
+                recentEntry == null ? "" : recentEntry,
+                String.valueOf(recentCapacity)
+        );
+
+        if (applied == null) {
+            throw new IllegalStateException("Redis 메시지 추가 스크립트 실패 (roomId=" + roomId + ", seq=" + seq + ")");
+        }
+    }
+
+    @Override
+    public Optional<ChatRoomState> findState(Long roomId) {
+        List<Object> values = stringRedisTemplate.opsForHash().multiGet(
+                ChatRedisKeys.roomState(roomId),
+                List.of("last_seq", "last_message_at", "last_message_preview")
+        );
+        if (values.get(0) == null) {
+            return Optional.empty();
+        }
+        return Optional.of(toState(roomId, values));
+    }
+
+    @Override
+    public List<Long> popDirtyRoomIds(int count) {
+        List<String> members = stringRedisTemplate.opsForSet().pop(ChatRedisKeys.DIRTY_ROOMS, count);
+        if (members == null) {
+            return List.of();
+        }
+        return members.stream().map(Long::valueOf).toList();
+    }
+
+    @Override
+    public void restoreDirtyRooms(Collection<Long> roomIds) {
+        if (!roomIds.isEmpty()) {
+            stringRedisTemplate.opsForSet().add(ChatRedisKeys.DIRTY_ROOMS,
+                    roomIds.stream().map(String::valueOf).toArray(String[]::new));
+        }
+    }
+
+    private static ChatRoomState toState(Long roomId, List<Object> values) {
+        long lastSeq = Long.parseLong(values.get(0).toString());
+        Instant lastMessageAt = values.get(1) == null ? null : Instant.ofEpochMilli(Long.parseLong(values.get(1).toString()));
+        String preview = values.get(2) == null || values.get(2).toString().isEmpty() ? null : values.get(2).toString();
+        return new ChatRoomState(roomId, lastSeq, lastMessageAt, preview);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.munglogbackend.application.chat.required;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 인코딩별 토픽 구독 수 (chat:wire:{format}:subscriptions, destination -> 구독 수 해시)
+ * - 브로커 릴레이를 쓰므로 구독자는 다른 노드에 연결되어 있을 수 있어, 노드 메모리가 아닌 Redis에 모든 노드의 구독을 모은다.
+ * - destination은 인코딩 suffix를 뗀 원래 destination이다.
+ */
+public interface ChatWireSubscriptionRepository {
+    void increment(String formatTag, String destination);
+
+    // 0 이하가 되면 항목을 지운다.
+    void decrement(String formatTag, String destination);
+
+    // destinations 중 구독자가 한 명 이상 있는 destination
+    Set<String> findSubscribed(String formatTag, Collection<String> destinations);
+}
@@ -0,0 +1,46 @@
+package com.example.munglogbackend.application.chat.required;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+
+@Repository
+@RequiredArgsConstructor
+public class ChatWireSubscriptionRepositoryImpl implements ChatWireSubscriptionRepository {
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public void increment(String formatTag, String destination) {
+        stringRedisTemplate.opsForHash().increment(ChatRedisKeys.wireSubscriptions(formatTag), destination, 1L);
+    }
+
+    @Override
+    public void decrement(String formatTag, String destination) {
+        stringRedisTemplate.execute(
+                ChatRedisScripts.DECREMENT_SUBSCRIPTION,
+                List.of(ChatRedisKeys.wireSubscriptions(formatTag)),
+                destination
+        );
+    }
+
+    @Override
+    public Set<String> findSubscribed(String formatTag, Collection<String> destinations) {
+        if (destinations.isEmpty()) {
+            return Set.of();
+        }
+
+        List<Object> fields = new ArrayList<>(destinations);
+        List<Object> counts = stringRedisTemplate.opsForHash().multiGet(ChatRedisKeys.wireSubscriptions(formatTag), fields);
+
+        Set<String> subscribed = new HashSet<>();
+        for (int i = 0; i < fields.size(); i++) {
+            Object count = counts.get(i);
+            if (count != null && Long.parseLong(count.toString()) > 0) {
+                subscribed.add((String) fields.get(i));
+            }
+        }
+        return subscribed;
+    }
+}
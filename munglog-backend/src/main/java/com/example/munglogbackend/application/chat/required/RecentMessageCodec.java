@@ -0,0 +1,42 @@
+package com.example.munglogbackend.application.chat.required;
+
+import com.example.munglogbackend.application.chat.dto.ChatMessageDto;
+import com.example.munglogbackend.application.chat.dto.RecentMessage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 최근 메시지 링 항목 직렬화 ("{seq}|{ChatMessageDto JSON}")
+ * seq는 Lua 스크립트에서 발급되므로 본문과 분리해 앞에 붙인다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RecentMessageCodec {
+    private final ObjectMapper objectMapper;
+
+    public String encodeBody(ChatMessageDto message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("최근 메시지 직렬화 실패", e);
+        }
+    }
+
+    public String encode(RecentMessage message) {
+        return message.seq() + "|" + encodeBody(message.message());
+    }
+
+    public RecentMessage decode(String value) {
+        int idx = value.indexOf('|');
+        try {
+            return new RecentMessage(
+                    Long.parseLong(value.substring(0, idx)),
+                    objectMapper.readValue(value.substring(idx + 1), ChatMessageDto.class)
+            );
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("최근 메시지 역직렬화 실패", e);
+        }
+    }
+}
@@ -73,7 +73,8 @@ public class AuthService implements Auth {
             throw new AuthException(AuthErrorType.INVALID_REFRESH_TOKEN);
         }
 
-        String newAccess  = tokenProvider.createAccessToken(memberId);
+        Member member = memberFinder.findActiveById(memberId);
+        String newAccess  = tokenProvider.createAccessToken(memberId, member.getRole());
         String newRefresh = tokenProvider.createRefreshToken(memberId);
 
         long refreshTtl = tokenProvider.getRefreshTokenExpiration();
@@ -108,7 +109,7 @@ public class AuthService implements Auth {
     }
 
     private  TokenInfo getTokenInfo(Member member) {
-        String accessToken  = tokenProvider.createAccessToken(member.getId());
+        String accessToken  = tokenProvider.createAccessToken(member.getId(), member.getRole());
         String refreshToken = tokenProvider.createRefreshToken(member.getId());
         String redisKey     = "auth:refresh:" + member.getId();
         memoryMap.setValue(redisKey, refreshToken, tokenProvider.getRefreshTokenExpiration());
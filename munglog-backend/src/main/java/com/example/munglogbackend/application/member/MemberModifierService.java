@@ -1,5 +1,6 @@
 package com.example.munglogbackend.application.member;
 
+import com.example.munglogbackend.application.member.cache.ActiveMemberCache;
 import com.example.munglogbackend.application.member.provided.MemberFinder;
 import com.example.munglogbackend.application.member.provided.MemberSaver;
 import com.example.munglogbackend.application.member.required.MemberRepository;
@@ -14,11 +15,13 @@ import org.springframework.transaction.annotation.Transactional;
 public class MemberModifierService implements MemberSaver {
     private final MemberRepository memberRepository;
     private final MemberFinder memberFinder;
+    private final ActiveMemberCache activeMemberCache;
 
     @Override
     public Long softDelete(Long memberId) {
         Member m = memberFinder.findActiveById(memberId);
         m.softDelete();
+        activeMemberCache.evict(memberId);
         return m.getId();
     }
 
@@ -26,6 +29,7 @@ public class MemberModifierService implements MemberSaver {
     public Long restore(Long memberId) {
         Member m = memberFinder.findDeletedById(memberId);
         m.restore();
+        activeMemberCache.evict(memberId);
         return m.getId();
     }
 
@@ -45,5 +49,6 @@ public class MemberModifierService implements MemberSaver {
     public void hardDelete(Long memberId) {
         Member m = memberFinder.findActiveById(memberId);
         memberRepository.delete(m);
+        activeMemberCache.evict(memberId);
     }
 }
\ No newline at end of file
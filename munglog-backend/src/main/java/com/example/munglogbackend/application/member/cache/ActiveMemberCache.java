@@ -0,0 +1,67 @@
+package com.example.munglogbackend.application.member.cache;
+
+import com.example.munglogbackend.application.member.required.MemberRepository;
+import com.example.munglogbackend.config.monitoring.CacheMetricsConfig;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 회원의 활성(탈퇴하지 않음) 여부를 짧게 보관하는 캐시
+ * - JWT 인증 시 토큰 클레임만으로 principal을 만들고, 탈퇴/비활성 확인만 이 캐시를 거쳐 DB에 묻는다.
+ * - 탈퇴 처리 시 해당 노드의 항목을 바로 비우며, 다른 노드는 ttl-seconds 안에 반영된다.
+ * - max-entries를 넘으면 Caffeine이 사용 빈도가 낮은 항목부터 비운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ActiveMemberCache {
+    public static final String CACHE_NAME = "auth_active_member";
+
+    private final MemberRepository memberRepository;
+    private final CacheMetricsConfig cacheMetrics;
+
+    @Value("${auth.active-member-cache.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    @Value("${auth.active-member-cache.max-entries:100000}")
+    private int maxEntries;
+
+    private Cache<Long, Boolean> entries;
+
+    @PostConstruct
+    void init() {
+        entries = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .evictionListener(cacheMetrics.<Long, Boolean>evictionRecorder(CACHE_NAME))
+                .build();
+        cacheMetrics.registerSize(CACHE_NAME, entries.asMap());
+    }
+
+    /**
+     * 회원이 활성 상태인지 확인한다. 캐시에 없거나 만료되었으면 DB에서 다시 읽는다.
+     */
+    public boolean isActive(Long memberId) {
+        Boolean cached = entries.getIfPresent(memberId);
+        if (cached != null) {
+            cacheMetrics.recordHit(CACHE_NAME);
+            return cached;
+        }
+
+        cacheMetrics.recordMiss(CACHE_NAME);
+        boolean active = memberRepository.existsByIdAndIsDeletedFalse(memberId);
+        entries.put(memberId, active);
+        return active;
+    }
+
+    public void evict(Long memberId) {
+        if (entries.asMap().remove(memberId) != null) {
+            cacheMetrics.recordEviction(CACHE_NAME);
+        }
+    }
+}
@@ -19,6 +19,8 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     boolean existsByEmailAndIsDeletedFalse(Email email);
 
+    boolean existsByIdAndIsDeletedFalse(Long memberId);
+
     List<Member> findAllByIsDeletedFalse();
     /**
      * 특정 역할을 가진 회원 수 조회
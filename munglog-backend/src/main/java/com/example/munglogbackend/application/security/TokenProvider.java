@@ -1,5 +1,6 @@
 package com.example.munglogbackend.application.security;
 
+import com.example.munglogbackend.domain.member.enumerate.MemberRole;
 import org.springframework.security.core.Authentication;
 
 public interface TokenProvider {
@@ -7,9 +8,10 @@ public interface TokenProvider {
      * 주어진 회원 ID와 역할을 담은 Access Token(JWT)을 생성합니다.
      *
      * @param memberId 회원 식별자
+     * @param role 회원 역할 (토큰 클레임에 담겨 인증 시 DB 조회 없이 사용된다)
      * @return 발급된 Access Token 문자열
      */
-    String createAccessToken(Long memberId);
+    String createAccessToken(Long memberId, MemberRole role);
 
     /**
      * 주어진 회원 ID와 역할을 담은 Refresh Token(JWT)을 생성합니다.
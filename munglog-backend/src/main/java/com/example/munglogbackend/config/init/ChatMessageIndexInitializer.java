@@ -0,0 +1,90 @@
+package com.example.munglogbackend.config.init;
+
+import com.example.munglogbackend.domain.chat.entity.ChatMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * chat_messages 컬렉션 인덱스를 애플리케이션 시작 시 보장한다.
+ * - uk_room_id_seq: (room_id ASC, seq DESC) 유니크 인덱스
+ *   히스토리 조회(room_id 일치 + seq 역순)를 인덱스만으로 정렬하고, 같은 방의 seq 중복 저장을 막는다.
+ * - 생성 후 인덱스 목록과 컬렉션/인덱스 크기를 로그로 남긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ChatMessageIndexInitializer implements ApplicationRunner {
+    static final String ROOM_SEQ_INDEX = "uk_room_id_seq";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${chat.mongo.index-init.enabled:true}")
+    private boolean enabled;
+
+    // 인덱스 생성 실패 시 기동을 중단할지 여부 (기존 데이터에 seq 중복이 있으면 유니크 인덱스 생성이 실패한다)
+    @Value("${chat.mongo.index-init.fail-on-error:false}")
+    private boolean failOnError;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+
+        IndexOperations indexOps = mongoTemplate.indexOps(ChatMessage.class);
+        try {
+            indexOps.ensureIndex(new Index()
+                    .on("room_id", Sort.Direction.ASC)
+                    .on("seq", Sort.Direction.DESC)
+                    .unique()
+                    .named(ROOM_SEQ_INDEX));
+        } catch (Exception e) {
+            log.error("❌ chat_messages 인덱스 생성 실패 ({}). room_id + seq 중복 데이터를 확인하세요.", ROOM_SEQ_INDEX, e);
+            if (failOnError) {
+                throw e;
+            }
+        }
+
+        report(indexOps);
+    }
+
+    private void report(IndexOperations indexOps) {
+        try {
+            List<IndexInfo> indexes = indexOps.getIndexInfo();
+            Document stats = mongoTemplate.executeCommand(new Document("collStats", mongoTemplate.getCollectionName(ChatMessage.class)));
+            Document indexSizes = stats.get("indexSizes", Document.class);
+
+            log.info("📚 chat_messages: count={}, size={}B, totalIndexSize={}B",
+                    stats.get("count"), stats.get("size"), stats.get("totalIndexSize"));
+            for (IndexInfo index : indexes) {
+                log.info("   - index {} keys={} unique={} size={}B",
+                        index.getName(),
+                        index.getIndexFields(),
+                        index.isUnique(),
+                        indexSizes == null ? "?" : indexSizes.get(index.getName()));
+            }
+
+            boolean present = indexes.stream().anyMatch(index -> ROOM_SEQ_INDEX.equals(index.getName()));
+            if (!present) {
+                log.warn("⚠️ {} 인덱스가 없습니다. 히스토리 조회가 컬렉션 스캔으로 동작합니다.", ROOM_SEQ_INDEX);
+            }
+        } catch (Exception e) {
+            log.warn("chat_messages 인덱스 상태 조회 실패", e);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.munglogbackend.config.monitoring;
+
+import com.github.benmanes.caffeine.cache.RemovalListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 애플리케이션 내부 캐시의 적중/미스/축출 메트릭
+ * - 캐시 이름(cache 태그) 단위로만 집계하므로 시계열 수가 캐시 개수로 제한된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheMetricsConfig {
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentHashMap<String, Counter> hitCounters = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Counter> missCounters = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Counter> evictionCounters = new ConcurrentHashMap<>();
+
+    public void recordHit(String cache) {
+        hitCounters.computeIfAbsent(cache, c -> requestCounter(c, "hit")).increment();
+    }
+
+    public void recordMiss(String cache) {
+        missCounters.computeIfAbsent(cache, c -> requestCounter(c, "miss")).increment();
+    }
+
+    public void recordEviction(String cache) {
+        recordEvictions(cache, 1);
+    }
+
+    public void recordEvictions(String cache, int count) {
+        evictionCounters.computeIfAbsent(cache, c ->
+                Counter.builder("app.cache.evictions.total")
+                        .tag("cache", c)
+                        .description("Entries evicted or invalidated from the cache")
+                        .register(meterRegistry)
+        ).increment(count);
+    }
+
+    /**
+     * 크기 초과나 만료로 자동 제거된 항목을 기록하는 Caffeine 리스너 (명시적 무효화는 호출 측에서 기록)
+     */
+    public <K, V> RemovalListener<K, V> evictionRecorder(String cache) {
+        return (key, value, cause) -> recordEviction(cache);
+    }
+
+    /**
+     * 캐시 크기 게이지 등록 (캐시 생성 시 한 번 호출)
+     */
+    public void registerSize(String cache, Map<?, ?> entries) {
+        Gauge.builder("app.cache.size", entries, Map::size)
+                .tag("cache", cache)
+                .description("Current number of entries in the cache")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 누적 적중률 게이지 등록 (hit / (hit + miss), 조회가 없으면 0)
+     */
+    public void registerHitRatio(String cache) {
+        Gauge.builder("app.cache.hit.ratio", this, m -> m.hitRatio(cache))
+                .tag("cache", cache)
+                .description("Cumulative hit ratio of the cache")
+                .register(meterRegistry);
+    }
+
+    private double hitRatio(String cache) {
+        Counter hit = hitCounters.get(cache);
+        Counter miss = missCounters.get(cache);
+        double hits = hit == null ? 0 : hit.count();
+        double total = hits + (miss == null ? 0 : miss.count());
+        return total == 0 ? 0 : hits / total;
+    }
+
+    private Counter requestCounter(String cache, String result) {
+        return Counter.builder("app.cache.requests.total")
+                .tag("cache", cache)
+                .tag("result", result)
+                .description("Cache lookups by result")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.munglogbackend.config.monitoring;
+
+/**
+ * 메시지 전송 경로의 단계 (chat.send.stage.duration의 stage 태그)
+ */
+public enum ChatSendStage {
+    VALIDATE("validate"),       // 메시지 형식 + 채팅방/발신자 확인
+    SEQ("seq"),                 // Redis seq 발급
+    PERSIST("persist"),         // Mongo 저장 + Redis 방 상태/최근 메시지 링 갱신
+    BROADCAST("broadcast"),     // 방 토픽 브로드캐스트 (팬아웃 레인)
+    FANOUT("fanout");           // inbox 갱신 + 참가자별 요약 전송 (팬아웃 레인)
+
+    private final String tag;
+
+    ChatSendStage(String tag) {
+        this.tag = tag;
+    }
+
+    public String tag() {
+        return tag;
+    }
+}
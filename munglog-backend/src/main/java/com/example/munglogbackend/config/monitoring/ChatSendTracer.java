@@ -0,0 +1,108 @@
+package com.example.munglogbackend.config.monitoring;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.TraceContext;
+import io.micrometer.tracing.Tracer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메시지 전송 단계별 span 기록 (선택 기능, 기본 꺼짐)
+ * - chat.tracing.enabled=true 일 때만 동작한다. (management.tracing.enabled도 기본으로 이 값을 따른다, TracingConfig)
+ * - 샘플링은 management.tracing.sampling.probability(기본 0)를 따르며, 샘플링되지 않은 메시지는 span을 만들지 않는다.
+ * - 단계 소요 시간은 이미 측정한 nanoTime 값을 그대로 사용해 span 시작/종료 시각으로 변환한다.
+ * - 루트 span은 저장 단계가 끝나면 닫고, 팬아웃 단계(broadcast, fanout)는 이벤트에 담긴 추적 정보로 나중에 자식 span을 붙인다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatSendTracer {
+    private static final String ROOT_SPAN_NAME = "chat.send";
+    private static final String STAGE_SPAN_PREFIX = "chat.send.";
+
+    private final ObjectProvider<Tracer> tracerProvider;
+
+    @Value("${chat.tracing.enabled:false}")
+    private boolean enabled;
+
+    /**
+     * 메시지 한 건의 루트 span을 시작한다. 꺼져 있거나 샘플링되지 않으면 NOOP을 반환한다.
+     */
+    public ChatSendTrace start(Long roomId) {
+        Tracer tracer = enabled ? tracerProvider.getIfAvailable() : null;
+        if (tracer == null) {
+            return ChatSendTrace.NOOP;
+        }
+
+        Span root = tracer.nextSpan().name(ROOT_SPAN_NAME).tag("room_id", String.valueOf(roomId)).start();
+        if (root.isNoop()) {
+            return ChatSendTrace.NOOP;
+        }
+        return new ChatSendTrace(tracer, root, epochNanos(Instant.now()), System.nanoTime());
+    }
+
+    private static long epochNanos(Instant instant) {
+        return TimeUnit.SECONDS.toNanos(instant.getEpochSecond()) + instant.getNano();
+    }
+
+    /**
+     * 메시지 한 건의 추적 정보
+     * - wall/mono 기준점을 함께 보관해 nanoTime 구간을 span 시각(epoch)으로 바꾼다.
+     */
+    public static final class ChatSendTrace {
+        public static final ChatSendTrace NOOP = new ChatSendTrace(null, null, 0L, 0L);
+
+        private final Tracer tracer;
+        private final Span root;
+        private final long wallStartNanos;
+        private final long monoStartNanos;
+
+        private ChatSendTrace(Tracer tracer, Span root, long wallStartNanos, long monoStartNanos) {
+            this.tracer = tracer;
+            this.root = root;
+            this.wallStartNanos = wallStartNanos;
+            this.monoStartNanos = monoStartNanos;
+        }
+
+        /**
+         * nanoTime으로 측정한 단계 구간을 자식 span으로 기록한다.
+         * nanoTime은 JVM 안에서 스레드와 무관하므로 팬아웃 레인에서 측정한 값도 그대로 넘기면 된다.
+         */
+        public void stage(ChatSendStage stage, long startNanos, long endNanos) {
+            if (root == null) {
+                return;
+            }
+            recordChild(tracer, root.context(), stage, toEpoch(startNanos), toEpoch(endNanos));
+        }
+
+        public void end() {
+            if (root != null) {
+                root.end();
+            }
+        }
+
+        private long toEpoch(long monoNanos) {
+            return wallStartNanos + (monoNanos - monoStartNanos);
+        }
+
+        private static void recordChild(Tracer tracer, TraceContext parent, ChatSendStage stage,
+                                        long startEpochNanos, long endEpochNanos) {
+            try {
+                Span span = tracer.spanBuilder()
+                        .setParent(parent)
+                        .name(STAGE_SPAN_PREFIX + stage.tag())
+                        .startTimestamp(startEpochNanos, TimeUnit.NANOSECONDS)
+                        .start();
+                span.end(endEpochNanos, TimeUnit.NANOSECONDS);
+            } catch (Exception e) {
+                log.debug("단계 span 기록 실패 (stage={})", stage, e);
+            }
+        }
+    }
+}
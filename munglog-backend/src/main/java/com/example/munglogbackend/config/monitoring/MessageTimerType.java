@@ -0,0 +1,20 @@
+package com.example.munglogbackend.config.monitoring;
+
+/**
+ * 메시지 처리 시간(stomp.message.processing.time) 타이머 종류
+ * 시작 시 모두 등록해 두고 호출 경로에서는 EnumMap 조회만 한다.
+ */
+public enum MessageTimerType {
+    STOMP_RECEIVE("stomp_receive"),     // StompController 진입부터 종료까지
+    SEND_MESSAGE("send_message");       // ChatModifyService.sendMessage 전체
+
+    private final String tag;
+
+    MessageTimerType(String tag) {
+        this.tag = tag;
+    }
+
+    public String tag() {
+        return tag;
+    }
+}
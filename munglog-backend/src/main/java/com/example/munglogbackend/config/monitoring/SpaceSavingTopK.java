@@ -0,0 +1,84 @@
+package com.example.munglogbackend.config.monitoring;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Space-Saving 알고리즘으로 스트림에서 빈도가 높은 키 상위 K개를 추정한다.
+ * - 최대 capacity개의 카운터만 유지하므로 키 종류가 아무리 많아도 메모리가 일정하다.
+ * - 카운터가 가득 찬 상태에서 새 키가 들어오면 가장 작은 카운터를 물려받는다. (error = 물려받은 값)
+ * - count - error 는 실제 빈도의 하한, count 는 상한이다.
+ */
+public class SpaceSavingTopK<K> {
+    private final int capacity;
+    private final Map<K, Slot> slots;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public record Estimate<K>(K key, long count, long error) {}
+
+    private static final class Slot {
+        private long count;
+        private long error;
+    }
+
+    public SpaceSavingTopK(int capacity) {
+        this.capacity = Math.max(1, capacity);
+        this.slots = new HashMap<>(this.capacity * 2);
+    }
+
+    public void offer(K key) {
+        lock.lock();
+        try {
+            Slot slot = slots.get(key);
+            if (slot != null) {
+                slot.count++;
+                return;
+            }
+
+            if (slots.size() < capacity) {
+                slot = new Slot();
+                slot.count = 1;
+                slots.put(key, slot);
+                return;
+            }
+
+            // 가장 작은 카운터를 새 키에 넘겨준다.
+            Map.Entry<K, Slot> min = null;
+            for (Map.Entry<K, Slot> entry : slots.entrySet()) {
+                if (min == null || entry.getValue().count < min.getValue().count) {
+                    min = entry;
+                }
+            }
+            Slot reused = slots.remove(min.getKey());
+            reused.error = reused.count;
+            reused.count++;
+            slots.put(key, reused);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 추정 빈도 상위 k개를 반환하고 카운터를 비운다. (집계 구간 단위로 사용)
+     */
+    public List<Estimate<K>> drainTop(int k) {
+        List<Estimate<K>> estimates;
+        lock.lock();
+        try {
+            estimates = new ArrayList<>(slots.size());
+            for (Map.Entry<K, Slot> entry : slots.entrySet()) {
+                estimates.add(new Estimate<>(entry.getKey(), entry.getValue().count, entry.getValue().error));
+            }
+            slots.clear();
+        } finally {
+            lock.unlock();
+        }
+
+        estimates.sort(Comparator.comparingLong((Estimate<K> e) -> e.count()).reversed());
+        return estimates.size() > k ? estimates.subList(0, k) : estimates;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.munglogbackend.config.monitoring;
+
+import com.example.munglogbackend.application.chat.fanout.WireFormat;
+
+/**
+ * 구독 destination을 메트릭 태그로 쓸 패턴으로 분류한다.
+ * 회원/방 ID가 들어간 destination을 그대로 태그로 쓰면 시계열 수가 회원 수만큼 늘어나므로 패턴 단위로 묶는다.
+ * 인코딩 suffix(.cbor)가 붙은 destination도 같은 패턴으로 묶는다.
+ */
+public enum StompTopicPattern {
+    ROOM("room"),                   // /topic/chat.room.{roomId}
+    USER_SUMMARY("user_summary"),   // /topic/user.{memberId}.room-summary
+    OTHER("other");
+
+    static final String ROOM_PREFIX = "/topic/chat.room.";
+    private static final String USER_PREFIX = "/topic/user.";
+    private static final String SUMMARY_SUFFIX = ".room-summary";
+
+    private final String tag;
+
+    StompTopicPattern(String tag) {
+        this.tag = tag;
+    }
+
+    public String tag() {
+        return tag;
+    }
+
+    public static StompTopicPattern of(String rawDestination) {
+        String destination = WireFormat.baseDestination(rawDestination);
+        if (destination.startsWith(ROOM_PREFIX)) {
+            return ROOM;
+        }
+        if (destination.startsWith(USER_PREFIX) && destination.endsWith(SUMMARY_SUFFIX)) {
+            return USER_SUMMARY;
+        }
+        return OTHER;
+    }
+
+    /**
+     * 방 토픽이면 roomId 문자열, 아니면 null
+     */
+    public static String roomId(String rawDestination) {
+        String destination = WireFormat.baseDestination(rawDestination);
+        return destination.startsWith(ROOM_PREFIX) ? destination.substring(ROOM_PREFIX.length()) : null;
+    }
+}
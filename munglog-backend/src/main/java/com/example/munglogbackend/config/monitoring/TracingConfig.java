@@ -0,0 +1,14 @@
+package com.example.munglogbackend.config.monitoring;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * 추적(micrometer-tracing + OTLP) 기본 설정
+ * - management.tracing.enabled는 chat.tracing.enabled를 따르고, 샘플링 확률은 0이 기본이다.
+ * - main 실행뿐 아니라 테스트 등 모든 컨텍스트에 적용되도록 @PropertySource로 등록한다.
+ */
+@Configuration
+@PropertySource("classpath:tracing-defaults.properties")
+public class TracingConfig {
+}
@@ -1,13 +1,23 @@
 package com.example.munglogbackend.config.monitoring;
 
+import com.example.munglogbackend.domain.chat.enumerate.MessageType;
 import io.micrometer.core.instrument.*;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -25,12 +35,41 @@ public class WebSocketMetricsConfig {
     // 연결 시작 시간 추적 (세션 ID -> 연결 시작 시간)
     private final ConcurrentHashMap<String, Instant> connectionStartTimes = new ConcurrentHashMap<>();
 
-    // 토픽별 구독자 수 추적
-    private final ConcurrentHashMap<String, AtomicInteger> subscribersPerTopic = new ConcurrentHashMap<>();
+    // 토픽 메트릭 집계 방식 (PATTERN: 패턴별 + 상위 K개 방, DESTINATION: destination별)
+    @Value("${websocket.metrics.topic-mode:PATTERN}")
+    private TopicMetricsMode topicMode;
+
+    @Value("${websocket.metrics.hot-rooms.k:10}")
+    private int hotRoomCount;
+
+    // 패턴별 구독자 수 추적 (PATTERN 모드)
+    private final Map<StompTopicPattern, AtomicInteger> subscribersPerPattern = new EnumMap<>(StompTopicPattern.class);
+
+    // 구독이 많이 일어난 방 상위 K개 추정 (PATTERN 모드)
+    private final SpaceSavingTopK<String> hotRoomSketch;
+    private final ConcurrentHashMap<String, HotRoomGauge> hotRoomGauges = new ConcurrentHashMap<>();
+
+    // destination별 구독자 수 추적 (DESTINATION 모드, 0이 되면 게이지 제거)
+    private final ConcurrentHashMap<String, TopicGauge> subscribersPerTopic = new ConcurrentHashMap<>();
+
+    public enum TopicMetricsMode {
+        PATTERN,
+        DESTINATION
+    }
+
+    private record TopicGauge(AtomicInteger count, Gauge gauge) {}
+
+    private record HotRoomGauge(AtomicLong count, Gauge gauge) {}
 
     // === 메시지 관련 메트릭 ===
     private final AtomicLong failedMessages = new AtomicLong(0);
-    private final AtomicInteger messageQueueSize = new AtomicInteger(0);
+
+    // === 채널 실행기 관련 메트릭 (채널 이름 -> 실행기) ===
+    private final ConcurrentHashMap<String, ThreadPoolTaskExecutor> channelExecutors = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Counter> channelRejectionCounters = new ConcurrentHashMap<>();
+
+    // === 팬아웃 관련 메트릭 ===
+    private final AtomicInteger fanoutQueueSize = new AtomicInteger(0);
 
     // Counter들
     private final Counter connectCounter;
@@ -39,18 +78,40 @@ public class WebSocketMetricsConfig {
     private final Counter unsubscribeCounter;
     private final Counter connectionFailureCounter;
     private final Counter failedMessageCounter;
-
-    // Timer들
-    private final Timer stompReceiveTimer;
+    private final Counter fanoutOverflowCounter;
+    private final Counter summarySentCounter;
+    private final Counter summarySuppressedCounter;
+    private final ConcurrentHashMap<String, Counter> throttledCounters = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Counter> wireBytesCounters = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Counter> deflateCounters = new ConcurrentHashMap<>();
+
+    // 채팅 지연 SLO 구간 (Prometheus 버킷으로 내보내 달성률을 계산한다)
+    private static final Duration[] CHAT_LATENCY_SLOS = {
+            Duration.ofMillis(5), Duration.ofMillis(10), Duration.ofMillis(25), Duration.ofMillis(50),
+            Duration.ofMillis(100), Duration.ofMillis(250), Duration.ofMillis(500), Duration.ofSeconds(1)
+    };
+
+    // Timer들 (메시지 처리/단계별 타이머는 시작 시 모두 등록)
+    private final Map<MessageTimerType, Timer> processingTimers = new EnumMap<>(MessageTimerType.class);
+    private final Map<ChatSendStage, Timer> stageTimers = new EnumMap<>(ChatSendStage.class);
+    private final Map<MessageType, Timer> publishLagTimers = new EnumMap<>(MessageType.class);
     private final Timer connectionDurationTimer;
+    private final Timer fanoutBatchTimer;
+    private final Timer deflateCpuTimer;
+
+    // DistributionSummary들
+    private final DistributionSummary fanoutBatchSize;
+    private final DistributionSummary deflateRatio;
 
     // destination별 메시지 카운터 캐시
     private final ConcurrentHashMap<String, Counter> messageCounters = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<String, Counter> broadcastCounters = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<String, Counter> unicastCounters = new ConcurrentHashMap<>();
 
-    public WebSocketMetricsConfig(MeterRegistry meterRegistry) {
+    public WebSocketMetricsConfig(MeterRegistry meterRegistry,
+                                  @Value("${websocket.metrics.hot-rooms.capacity:200}") int hotRoomCapacity) {
         this.meterRegistry = meterRegistry;
+        this.hotRoomSketch = new SpaceSavingTopK<>(hotRoomCapacity);
 
         // Gauge 등록
         registerGauges();
@@ -84,15 +145,55 @@ public class WebSocketMetricsConfig {
                 .description("Total failed messages")
                 .register(meterRegistry);
 
-        // Timer 등록
-        this.stompReceiveTimer = Timer.builder("stomp.message.processing.time")
-                .tag("type", "stomp_receive")
-                .description("STOMP message processing time")
+        this.fanoutOverflowCounter = Counter.builder("chat.fanout.overflow.total")
+                .description("Times a sender waited offer-timeout-ms for space in a full fan-out lane")
                 .register(meterRegistry);
 
+        this.summarySentCounter = Counter.builder("chat.summary.frames.total")
+                .tag("result", "sent")
+                .description("Room-summary frames sent to personal topics")
+                .register(meterRegistry);
+
+        this.summarySuppressedCounter = Counter.builder("chat.summary.frames.total")
+                .tag("result", "suppressed")
+                .description("Room-summary frames replaced by a newer summary before being sent")
+                .register(meterRegistry);
+
+        // Timer 등록
+        for (MessageTimerType type : MessageTimerType.values()) {
+            processingTimers.put(type, latencyTimer("stomp.message.processing.time", "type", type.tag(),
+                    "Message processing time by type"));
+        }
+        for (ChatSendStage stage : ChatSendStage.values()) {
+            stageTimers.put(stage, latencyTimer("chat.send.stage.duration", "stage", stage.tag(),
+                    "Time spent in each stage of sending a chat message"));
+        }
+        for (MessageType type : MessageType.values()) {
+            publishLagTimers.put(type, latencyTimer("chat.message.publish.lag", "type", type.name(),
+                    "Gap between receiving a chat message and publishing it to the broker"));
+        }
+
         this.connectionDurationTimer = Timer.builder("websocket.connection.duration")
                 .description("WebSocket connection duration")
                 .register(meterRegistry);
+
+        this.fanoutBatchTimer = Timer.builder("chat.fanout.batch.duration")
+                .description("Time spent delivering one fan-out batch")
+                .register(meterRegistry);
+
+        this.fanoutBatchSize = DistributionSummary.builder("chat.fanout.batch.size")
+                .description("Number of messages delivered per fan-out batch")
+                .register(meterRegistry);
+
+        this.deflateCpuTimer = Timer.builder("stomp.ws.deflate.cpu.time")
+                .description("Estimated time spent deflating one outbound frame (sampled)")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+
+        this.deflateRatio = DistributionSummary.builder("stomp.ws.deflate.ratio")
+                .description("Compressed / original size of sampled outbound frames")
+                .publishPercentiles(0.5, 0.95)
+                .register(meterRegistry);
     }
 
     private void registerGauges() {
@@ -106,9 +207,25 @@ public class WebSocketMetricsConfig {
                 .description("Current number of active STOMP subscriptions")
                 .register(meterRegistry);
 
-        // 메시지 큐 대기 크기
-        Gauge.builder("stomp.message.queue.size", messageQueueSize, AtomicInteger::get)
-                .description("Current message queue size")
+        // 메시지 큐 대기 크기 (전체 STOMP 채널 실행기 합계)
+        Gauge.builder("stomp.message.queue.size", channelExecutors,
+                        executors -> executors.values().stream().mapToInt(ThreadPoolTaskExecutor::getQueueSize).sum())
+                .description("Current number of tasks waiting in the STOMP channel executors")
+                .register(meterRegistry);
+
+        // 패턴별 구독자 수 (패턴 수만큼만 시계열이 생긴다)
+        for (StompTopicPattern pattern : StompTopicPattern.values()) {
+            AtomicInteger count = new AtomicInteger(0);
+            subscribersPerPattern.put(pattern, count);
+            Gauge.builder("stomp.subscribers.per.pattern", count, AtomicInteger::get)
+                    .tag("pattern", pattern.tag())
+                    .description("Number of subscribers per destination pattern")
+                    .register(meterRegistry);
+        }
+
+        // 팬아웃 큐 대기 크기 (전체 레인 합계)
+        Gauge.builder("chat.fanout.queue.size", fanoutQueueSize, AtomicInteger::get)
+                .description("Current number of messages waiting for fan-out")
                 .register(meterRegistry);
 
         // 총 연결 실패 수
@@ -152,15 +269,21 @@ public class WebSocketMetricsConfig {
         activeSubscriptions.incrementAndGet();
         subscribeCounter.increment();
 
-        // 토픽별 구독자 수 증가
-        subscribersPerTopic.computeIfAbsent (destination, k -> {
-            AtomicInteger count = new AtomicInteger(0);
-            Gauge.builder("stomp.subscribers.per.topic", count, AtomicInteger::get)
-                    .tag("destination", k)
-                    .description("Number of subscribers per topic")
-                    .register(meterRegistry);
-            return count;
-        }).incrementAndGet();
+        if (topicMode == TopicMetricsMode.DESTINATION) {
+            // destination별 구독자 수 증가 (게이지는 첫 구독 시 등록)
+            subscribersPerTopic.compute(destination, (dest, topic) -> {
+                TopicGauge current = (topic != null) ? topic : registerTopicGauge(dest);
+                current.count().incrementAndGet();
+                return current;
+            });
+            return;
+        }
+
+        StompTopicPattern pattern = StompTopicPattern.of(destination);
+        subscribersPerPattern.get(pattern).incrementAndGet();
+        if (pattern == StompTopicPattern.ROOM) {
+            hotRoomSketch.offer(StompTopicPattern.roomId(destination));
+        }
     }
 
     public void decrementSubscriptions(String destination) {
@@ -171,11 +294,64 @@ public class WebSocketMetricsConfig {
         activeSubscriptions.updateAndGet(v -> Math.max(0, v - 1));
         unsubscribeCounter.increment();
 
-        // 토픽별 구독자 수 감소
-        AtomicInteger count = subscribersPerTopic.get(destination);
-        if (count != null) {
-            count.updateAndGet(v -> Math.max(0, v - 1));
+        if (topicMode == TopicMetricsMode.DESTINATION) {
+            // destination별 구독자 수 감소, 0이 되면 게이지를 레지스트리에서 제거
+            subscribersPerTopic.computeIfPresent(destination, (dest, topic) -> {
+                if (topic.count().decrementAndGet() > 0) {
+                    return topic;
+                }
+                meterRegistry.remove(topic.gauge());
+                return null;
+            });
+            return;
+        }
+
+        subscribersPerPattern.get(StompTopicPattern.of(destination)).updateAndGet(v -> Math.max(0, v - 1));
+    }
+
+    /**
+     * 집계 구간 동안 구독이 가장 많았던 방 상위 K개를 게이지로 내보낸다.
+     * 상위 K개에서 빠진 방의 게이지는 레지스트리에서 제거하므로 시계열은 최대 K개만 유지된다.
+     */
+    @Scheduled(fixedDelayString = "${websocket.metrics.hot-rooms.window-ms:60000}")
+    public void refreshHotRooms() {
+        if (topicMode != TopicMetricsMode.PATTERN) {
+            return;
         }
+
+        List<SpaceSavingTopK.Estimate<String>> top = hotRoomSketch.drainTop(hotRoomCount);
+        Set<String> current = new HashSet<>();
+        for (SpaceSavingTopK.Estimate<String> estimate : top) {
+            current.add(estimate.key());
+            hotRoomGauges.computeIfAbsent(estimate.key(), this::registerHotRoomGauge)
+                    .count().set(estimate.count());
+        }
+
+        hotRoomGauges.entrySet().removeIf(entry -> {
+            if (current.contains(entry.getKey())) {
+                return false;
+            }
+            meterRegistry.remove(entry.getValue().gauge());
+            return true;
+        });
+    }
+
+    private TopicGauge registerTopicGauge(String destination) {
+        AtomicInteger count = new AtomicInteger(0);
+        Gauge gauge = Gauge.builder("stomp.subscribers.per.topic", count, AtomicInteger::get)
+                .tag("destination", destination)
+                .description("Number of subscribers per topic")
+                .register(meterRegistry);
+        return new TopicGauge(count, gauge);
+    }
+
+    private HotRoomGauge registerHotRoomGauge(String roomId) {
+        AtomicLong count = new AtomicLong(0);
+        Gauge gauge = Gauge.builder("stomp.hot.rooms.subscriptions", count, AtomicLong::get)
+                .tag("room_id", roomId)
+                .description("Estimated subscriptions during the last window for the hottest rooms")
+                .register(meterRegistry);
+        return new HotRoomGauge(count, gauge);
     }
 
     // === 메시지 관련 메서드 ===
@@ -216,8 +392,131 @@ public class WebSocketMetricsConfig {
         failedMessageCounter.increment();
     }
 
-    public void updateMessageQueueSize(int size) {
-        messageQueueSize.set(size);
+    // === 채널 실행기 관련 메서드 ===
+
+    /**
+     * STOMP 채널 실행기의 활성 스레드, 풀 크기, 큐 대기 수 게이지 등록 (채널마다 한 번 호출)
+     */
+    public void registerChannelExecutor(String channel, ThreadPoolTaskExecutor executor) {
+        channelExecutors.put(channel, executor);
+
+        Gauge.builder("stomp.channel.threads.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .tag("channel", channel)
+                .description("Threads currently running tasks in the STOMP channel executor")
+                .register(meterRegistry);
+
+        Gauge.builder("stomp.channel.pool.size", executor, ThreadPoolTaskExecutor::getPoolSize)
+                .tag("channel", channel)
+                .description("Current number of threads in the STOMP channel executor")
+                .register(meterRegistry);
+
+        Gauge.builder("stomp.channel.queue.size", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .tag("channel", channel)
+                .description("Tasks waiting in the STOMP channel executor queue")
+                .register(meterRegistry);
+    }
+
+    public void recordChannelRejection(String channel) {
+        channelRejectionCounters.computeIfAbsent(channel, c ->
+                Counter.builder("stomp.channel.tasks.rejected.total")
+                        .tag("channel", c)
+                        .description("Tasks rejected by the STOMP channel executor because its queue was full")
+                        .register(meterRegistry)
+        ).increment();
+    }
+
+    // === 팬아웃 관련 메서드 ===
+
+    public void incrementFanoutQueue() {
+        fanoutQueueSize.incrementAndGet();
+    }
+
+    public void decrementFanoutQueue(int count) {
+        fanoutQueueSize.addAndGet(-count);
+    }
+
+    public void recordFanoutBatch(int size, long elapsedNanos) {
+        fanoutBatchSize.record(size);
+        fanoutBatchTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordFanoutOverflow() {
+        fanoutOverflowCounter.increment();
+    }
+
+    public void recordSummarySent() {
+        summarySentCounter.increment();
+    }
+
+    public void recordSummarySuppressed() {
+        summarySuppressedCounter.increment();
+    }
+
+    /**
+     * 인코딩별 발행 바이트 수 (encoding: json/cbor, kind: broadcast/summary)
+     * 두 인코딩을 함께 발행하므로 같은 kind끼리 비율을 보면 절감량을 알 수 있다.
+     */
+    public void recordWireBytes(String encoding, String kind, int bytes) {
+        wireBytesCounters.computeIfAbsent(encoding + ":" + kind, k ->
+                Counter.builder("stomp.messages.bytes.total")
+                        .baseUnit("bytes")
+                        .tag("encoding", encoding)
+                        .tag("kind", kind)
+                        .description("Payload bytes published to the broker by encoding")
+                        .register(meterRegistry)
+        ).increment(bytes);
+    }
+
+    // === 압축(permessage-deflate) 관련 메서드 ===
+
+    /**
+     * 핸드셰이크에서 클라이언트가 permessage-deflate를 요청한 결과 (accepted / declined)
+     */
+    public void recordDeflateNegotiation(boolean accepted) {
+        deflateCounter("stomp.ws.deflate.negotiations.total", "result", accepted ? "accepted" : "declined",
+                "WebSocket handshakes that offered permessage-deflate").increment();
+    }
+
+    /**
+     * 최소 크기 미만이라 압축 이득을 추정하지 않은 프레임
+     */
+    public void recordDeflateBelowThreshold() {
+        deflateCounter("stomp.ws.deflate.frames.total", "result", "below_threshold",
+                "Sampled outbound frames on deflate sessions").increment();
+    }
+
+    /**
+     * 표본 프레임의 압축 전후 크기와 압축 시간
+     */
+    public void recordDeflateSample(int originalBytes, int compressedBytes, long elapsedNanos) {
+        deflateCounter("stomp.ws.deflate.frames.total", "result", "estimated",
+                "Sampled outbound frames on deflate sessions").increment();
+        deflateCounter("stomp.ws.deflate.bytes.total", "stage", "original",
+                "Sampled outbound frame bytes before and after deflate").increment(originalBytes);
+        deflateCounter("stomp.ws.deflate.bytes.total", "stage", "compressed",
+                "Sampled outbound frame bytes before and after deflate").increment(compressedBytes);
+        deflateRatio.record((double) compressedBytes / originalBytes);
+        deflateCpuTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Counter deflateCounter(String name, String tagKey, String tagValue, String description) {
+        return deflateCounters.computeIfAbsent(name + ":" + tagValue, k ->
+                Counter.builder(name)
+                        .tag(tagKey, tagValue)
+                        .description(description)
+                        .register(meterRegistry));
+    }
+
+    // === 유입 제한 관련 메서드 ===
+
+    public void recordThrottled(String scope, String policy) {
+        throttledCounters.computeIfAbsent(scope + ":" + policy, k ->
+                Counter.builder("stomp.messages.throttled.total")
+                        .tag("scope", scope)
+                        .tag("policy", policy)
+                        .description("Inbound STOMP frames rejected by the rate limiter")
+                        .register(meterRegistry)
+        ).increment();
     }
 
     // === Timer 관련 메서드 ===
@@ -226,18 +525,30 @@ public class WebSocketMetricsConfig {
         return Timer.start(meterRegistry);
     }
 
-    public void stopTimer(Timer.Sample sample, String messageType) {
-        sample.stop(Timer.builder("stomp.message.processing.time")
-                .tag("type", messageType)
-                .description("Message processing time by type")
-                .register(meterRegistry));
+    public void stopTimer(Timer.Sample sample, MessageTimerType type) {
+        sample.stop(processingTimers.get(type));
     }
 
-    public Timer.Sample startStompReceiveTimer() {
-        return Timer.start(meterRegistry);
+    public void recordStage(ChatSendStage stage, long elapsedNanos) {
+        stageTimers.get(stage).record(elapsedNanos, TimeUnit.NANOSECONDS);
     }
 
-    public void stopStompReceiveTimer(Timer.Sample sample) {
-        sample.stop(stompReceiveTimer);
+    /**
+     * 서버 수신(serverReceivedAt) → 브로커 발행(serverPublishedAt) 간격 기록
+     */
+    public void recordPublishLag(MessageType type, Duration lag) {
+        publishLagTimers.get(type).record(lag);
+    }
+
+    private Timer latencyTimer(String name, String tagKey, String tagValue, String description) {
+        return Timer.builder(name)
+                .tag(tagKey, tagValue)
+                .description(description)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .serviceLevelObjectives(CHAT_LATENCY_SLOS)
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(5))
+                .register(meterRegistry);
     }
-}
\ No newline at end of file
+}
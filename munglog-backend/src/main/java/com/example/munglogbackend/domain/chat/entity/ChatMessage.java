@@ -57,9 +57,30 @@ public class ChatMessage {
 
     /** 메시지 생성 정적 팩토리 */
     public static ChatMessage create(ChatMessageDto req, long seq, Long roomId, Long senderId) {
+        return create(req, seq, roomId, senderId, Instant.now());
+    }
+
+    /** 생성 시각을 지정하는 메시지 생성 정적 팩토리 (seq 발급 시점의 시각을 그대로 사용) */
+    public static ChatMessage create(ChatMessageDto req, long seq, Long roomId, Long senderId, Instant createdAt) {
+        MessageType mt = validate(req);
+
+        return ChatMessage.builder()
+                .roomId(roomId)
+                .senderId(senderId)
+                .type(mt)
+                .content(req.content())
+                .fileUrl(req.fileUrl())
+                .fileName(req.fileName())
+                .fileSize(req.fileSize())
+                .seq(seq)
+                .createdAt(createdAt)
+                .build();
+    }
+
+    /** 메시지 타입별 필수 값 검증 후 확정된 타입을 반환 */
+    public static MessageType validate(ChatMessageDto req) {
         MessageType mt = (req.type() != null) ? req.type() : MessageType.TEXT;
 
-        // 검증
         switch (mt) {
             case TEXT -> {
                 if (req.content() == null || req.content().isBlank()) {
@@ -77,17 +98,6 @@ public class ChatMessage {
                 }
             }
         }
-
-        return ChatMessage.builder()
-                .roomId(roomId)
-                .senderId(senderId)
-                .type(mt)
-                .content(req.content())
-                .fileUrl(req.fileUrl())
-                .fileName(req.fileName())
-                .fileSize(req.fileSize())
-                .seq(seq)
-                .createdAt(Instant.now())
-                .build();
+        return mt;
     }
 }
\ No newline at end of file
@@ -16,6 +16,10 @@ import java.util.Collection;
 import java.util.List;
 
 @Entity
+@Table(indexes = {
+        // 그룹 채팅방 목록 키셋 페이지네이션 (chat_room_type = ? ORDER BY last_message_at DESC, id DESC)
+        @Index(name = "idx_chat_room_type_last_message_at", columnList = "chat_room_type, last_message_at DESC, id DESC")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ChatRoom extends AbstractEntity {
@@ -17,6 +17,7 @@ public enum ChatErrorType implements ErrorType {
     SELF_CHAT_NOT_ALLOWED(HttpStatus.BAD_REQUEST, "자기 자신과는 채팅방을 만들 수 없습니다."),
     PRIVATE_CHAT_ROOM_ALREADY_EXISTS(HttpStatus.CONFLICT, "1:1 채팅방이 이미 존재합니다."),
     INVALID_GROUP_SIZE(HttpStatus.BAD_REQUEST, "그룹 채팅방에 너무 많은 사람을 초대하려고 합니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 페이지 커서입니다."),
 
     NOT_GROUP_CHAT(HttpStatus.BAD_REQUEST, "그룹 채팅방이 아닙니다.");
 
@@ -0,0 +1,16 @@
+-- 읽음 위치를 앞으로만 이동시킨다.
+-- KEYS[1] = chat:room:{roomId}:read         (memberId -> lastReadSeq 해시)
+-- KEYS[2] = chat:room:{roomId}:read-at      (memberId -> lastReadAt(epoch millis) 해시)
+-- KEYS[3] = chat:dirty:read-cursors         (Postgres 동기화 대기 읽음 위치)
+-- ARGV[1] = roomId, ARGV[2] = memberId, ARGV[3] = seq, ARGV[4] = readAt(epoch millis)
+local seq = tonumber(ARGV[3])
+local current = tonumber(redis.call('HGET', KEYS[1], ARGV[2]) or '0')
+if seq <= current then
+    return current
+end
+
+redis.call('HSET', KEYS[1], ARGV[2], seq)
+redis.call('HSET', KEYS[2], ARGV[2], ARGV[4])
+redis.call('SADD', KEYS[3], ARGV[1] .. ':' .. ARGV[2])
+
+return seq
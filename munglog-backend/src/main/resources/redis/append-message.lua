@@ -0,0 +1,44 @@
+-- Mongo에 저장된 채팅 메시지를 Redis 상태에 한 번의 왕복으로 반영한다. (seq는 reserveSeq로 미리 발급)
+-- 저장에 실패한 메시지는 이 스크립트를 실행하지 않으므로 마지막 메시지, 읽음 위치, 동기화 대기 목록에 남지 않는다.
+-- KEYS[1] = chat:room:{roomId}:state        (마지막 메시지 해시)
+-- KEYS[2] = chat:room:{roomId}:read         (memberId -> lastReadSeq 해시)
+-- KEYS[3] = chat:room:{roomId}:read-at      (memberId -> lastReadAt(epoch millis) 해시)
+-- KEYS[4] = chat:dirty:rooms                (Postgres 동기화 대기 방)
+-- KEYS[5] = chat:dirty:read-cursors         (Postgres 동기화 대기 읽음 위치)
+-- KEYS[6] = chat:room:{roomId}:recent       (최근 메시지 링, seq 점수 sorted set)
+-- KEYS[7] = chat:room:{roomId}:recent:floor (링이 빠짐없이 보관하는 가장 오래된 seq, 0이면 전체 보관)
+-- KEYS[8] = chat:room:{roomId}:recent:holes (저장되지 않은 seq, 링 범위를 벗어나면 함께 정리)
+-- ARGV[1] = roomId, ARGV[2] = senderId, ARGV[3] = seq, ARGV[4] = createdAt(epoch millis), ARGV[5] = preview
+-- ARGV[6] = 최근 메시지 항목(JSON, 빈 문자열이면 생략), ARGV[7] = 링 크기
+local seq = tonumber(ARGV[3])
+
+-- 동시에 저장된 메시지가 순서를 바꿔 도착해도 마지막 메시지는 뒤로 가지 않는다.
+if seq > tonumber(redis.call('HGET', KEYS[1], 'last_seq') or '0') then
+    redis.call('HSET', KEYS[1],
+            'last_seq', seq,
+            'last_message_at', ARGV[4],
+            'last_message_preview', ARGV[5])
+end
+
+local current = tonumber(redis.call('HGET', KEYS[2], ARGV[2]) or '0')
+if seq > current then
+    redis.call('HSET', KEYS[2], ARGV[2], seq)
+    redis.call('HSET', KEYS[3], ARGV[2], ARGV[4])
+    redis.call('SADD', KEYS[5], ARGV[1] .. ':' .. ARGV[2])
+end
+
+redis.call('SADD', KEYS[4], ARGV[1])
+
+-- 링이 만들어져 있는 방에만 추가 (없으면 다음 조회 때 Mongo에서 채운다)
+if ARGV[6] ~= '' and redis.call('EXISTS', KEYS[7]) == 1 then
+    redis.call('ZADD', KEYS[6], seq, seq .. '|' .. ARGV[6])
+    local capacity = tonumber(ARGV[7])
+    if redis.call('ZCARD', KEYS[6]) > capacity then
+        redis.call('ZREMRANGEBYRANK', KEYS[6], 0, -(capacity + 1))
+        local oldest = redis.call('ZRANGE', KEYS[6], 0, 0, 'WITHSCORES')
+        redis.call('SET', KEYS[7], oldest[2], 'KEEPTTL')
+        redis.call('ZREMRANGEBYSCORE', KEYS[8], '-inf', '(' .. oldest[2])
+    end
+end
+
+return seq
@@ -0,0 +1,8 @@
+-- 인코딩별 구독 수를 줄이고, 0 이하가 되면 필드를 지운다. (HINCRBY와 HDEL 사이에 들어온 구독을 지우지 않도록 한 번에 실행)
+-- KEYS[1] = chat:wire:{format}:subscriptions (destination -> 구독 수 해시)
+-- ARGV[1] = destination(인코딩 suffix를 뗀 원래 destination)
+local remaining = redis.call('HINCRBY', KEYS[1], ARGV[1], -1)
+if remaining <= 0 then
+    redis.call('HDEL', KEYS[1], ARGV[1])
+end
+return remaining
@@ -0,0 +1,9 @@
+-- 저장에 실패한 seq를 링에서 빼고 빈자리로 기록한다.
+-- 빈자리로 기록해 두면 링이 연속인지 확인할 때 누락으로 보지 않으므로, 매 조회마다 Mongo에서 다시 채우지 않는다.
+-- KEYS[1] = chat:room:{roomId}:recent       (최근 메시지 링)
+-- KEYS[2] = chat:room:{roomId}:recent:holes (저장되지 않은 seq)
+-- ARGV[1] = seq, ARGV[2] = ttl(초)
+redis.call('ZREMRANGEBYSCORE', KEYS[1], ARGV[1], ARGV[1])
+redis.call('ZADD', KEYS[2], ARGV[1], ARGV[1])
+redis.call('EXPIRE', KEYS[2], tonumber(ARGV[2]))
+return 1
@@ -0,0 +1,41 @@
+-- Mongo에서 읽은 최근 메시지로 링을 다시 채운다. (append-message.lua와 원자적으로 실행)
+-- KEYS[1] = chat:room:{roomId}:recent       (최근 메시지 링, seq 점수 sorted set)
+-- KEYS[2] = chat:room:{roomId}:recent:floor (링이 빠짐없이 보관하는 가장 오래된 seq, 0이면 전체 보관)
+-- KEYS[3] = chat:room:{roomId}:recent:holes (저장되지 않은 seq, seq 점수 sorted set)
+-- KEYS[4] = chat:room:{roomId}:seq          (seq 카운터)
+-- ARGV[1] = Mongo를 읽기 전에 확인한 seq, ARGV[2] = floor, ARGV[3] = ttl(초)
+-- ARGV[4] = 링 항목 수 n, ARGV[5 .. 4+2n] = 링 항목 (seq, "{seq}|{JSON}") 쌍
+-- ARGV[5+2n ..] = Mongo에서 새로 확인된 빈자리 seq (없을 수 있음)
+-- 반환: 1 = 교체, 0 = 그 사이 새 메시지가 추가되었거나 이미 최신 링이 있어 교체하지 않음
+local expected = tonumber(ARGV[1])
+if tonumber(redis.call('GET', KEYS[4]) or '0') ~= expected then
+    return 0
+end
+if redis.call('EXISTS', KEYS[2]) == 1 then
+    local newest = redis.call('ZRANGE', KEYS[1], -1, -1, 'WITHSCORES')
+    if newest[2] ~= nil and tonumber(newest[2]) >= expected then
+        return 0
+    end
+end
+
+local floor = tonumber(ARGV[2])
+local ttl = tonumber(ARGV[3])
+local count = tonumber(ARGV[4])
+
+redis.call('DEL', KEYS[1])
+for i = 0, count - 1 do
+    redis.call('ZADD', KEYS[1], ARGV[5 + i * 2], ARGV[6 + i * 2])
+end
+for i = 5 + count * 2, #ARGV do
+    redis.call('ZADD', KEYS[3], ARGV[i], ARGV[i])
+end
+if floor > 0 then
+    redis.call('ZREMRANGEBYSCORE', KEYS[3], '-inf', '(' .. floor)
+end
+
+redis.call('EXPIRE', KEYS[1], ttl)
+if redis.call('EXISTS', KEYS[3]) == 1 then
+    redis.call('EXPIRE', KEYS[3], ttl)
+end
+redis.call('SET', KEYS[2], floor, 'EX', ttl)
+return 1
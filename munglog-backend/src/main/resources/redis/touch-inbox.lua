@@ -0,0 +1,12 @@
+-- 이미 만들어진 회원별 inbox에만 채팅방을 최신 순으로 올린다.
+-- 만들어지지 않은 inbox는 다음 조회 때 DB에서 다시 만들어지므로 건드리지 않는다.
+-- KEYS[2i-1] = chat:member:{memberId}:inbox, KEYS[2i] = chat:member:{memberId}:inbox:loaded
+-- ARGV[1] = roomId, ARGV[2] = score(마지막 메시지 epoch millis)
+local touched = 0
+for i = 1, #KEYS, 2 do
+    if redis.call('EXISTS', KEYS[i + 1]) == 1 then
+        redis.call('ZADD', KEYS[i], ARGV[2], ARGV[1])
+        touched = touched + 1
+    end
+end
+return touched
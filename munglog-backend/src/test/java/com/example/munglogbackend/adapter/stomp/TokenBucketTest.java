@@ -0,0 +1,126 @@
+package com.example.munglogbackend.adapter.stomp;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+    private static final long START = 1_000_000_000L;
+    private static final long INTERVAL = TimeUnit.MILLISECONDS.toNanos(100); // 초당 10회
+    private static final int BURST = 3;
+    private static final long TOLERANCE = (BURST - 1) * INTERVAL;
+
+    @Test
+    @DisplayName("가득 찬 버킷은 burst개까지 연속 허용하고 그다음은 거부한다")
+    void allowsBurstThenRejects() {
+        TokenBucket bucket = new TokenBucket(START);
+
+        for (int i = 0; i < BURST; i++) {
+            assertThat(bucket.tryAcquire(START, INTERVAL, TOLERANCE)).isTrue();
+        }
+        assertThat(bucket.tryAcquire(START, INTERVAL, TOLERANCE)).isFalse();
+    }
+
+    @Test
+    @DisplayName("요청 간격만큼 지나면 한 번 더 허용된다")
+    void refillsOneTokenPerInterval() {
+        TokenBucket bucket = new TokenBucket(START);
+        for (int i = 0; i < BURST; i++) {
+            bucket.tryAcquire(START, INTERVAL, TOLERANCE);
+        }
+
+        assertThat(bucket.tryAcquire(START + INTERVAL - 1, INTERVAL, TOLERANCE)).isFalse();
+        assertThat(bucket.tryAcquire(START + INTERVAL, INTERVAL, TOLERANCE)).isTrue();
+        assertThat(bucket.tryAcquire(START + INTERVAL, INTERVAL, TOLERANCE)).isFalse();
+    }
+
+    @Test
+    @DisplayName("거부된 요청은 버킷 상태를 바꾸지 않는다")
+    void rejectionDoesNotConsume() {
+        TokenBucket bucket = new TokenBucket(START);
+        for (int i = 0; i < BURST; i++) {
+            bucket.tryAcquire(START, INTERVAL, TOLERANCE);
+        }
+        for (int i = 0; i < 10; i++) {
+            assertThat(bucket.tryAcquire(START, INTERVAL, TOLERANCE)).isFalse();
+        }
+
+        assertThat(bucket.tryAcquire(START + INTERVAL, INTERVAL, TOLERANCE)).isTrue();
+    }
+
+    @Test
+    @DisplayName("요청 속도가 rate 이하이면 계속 허용된다")
+    void steadyRateIsAlwaysAllowed() {
+        TokenBucket bucket = new TokenBucket(START);
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(bucket.tryAcquire(START + i * INTERVAL, INTERVAL, TOLERANCE)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("오래 쉬어도 burst를 넘게 쌓이지 않는다")
+    void idleTimeDoesNotAccumulateBeyondBurst() {
+        TokenBucket bucket = new TokenBucket(START);
+        long later = START + TimeUnit.MINUTES.toNanos(10);
+
+        int allowed = 0;
+        while (bucket.tryAcquire(later, INTERVAL, TOLERANCE)) {
+            allowed++;
+        }
+        assertThat(allowed).isEqualTo(BURST);
+    }
+
+    @Test
+    @DisplayName("최근 요청이 없으면 가득 찬 상태로 본다")
+    void isFullAfterIdle() {
+        TokenBucket bucket = new TokenBucket(START);
+        assertThat(bucket.isFull(START)).isTrue();
+
+        bucket.tryAcquire(START, INTERVAL, TOLERANCE);
+        assertThat(bucket.isFull(START)).isFalse();
+        assertThat(bucket.isFull(START + INTERVAL)).isTrue();
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 요청해도 burst개만 허용된다")
+    void concurrentAcquireHonoursBurst() throws Exception {
+        TokenBucket bucket = new TokenBucket(START);
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int allowed = 0;
+                    for (int i = 0; i < 100; i++) {
+                        if (bucket.tryAcquire(START, INTERVAL, TOLERANCE)) {
+                            allowed++;
+                        }
+                    }
+                    return allowed;
+                }));
+            }
+            start.countDown();
+
+            int total = 0;
+            for (Future<Integer> result : results) {
+                total += result.get(10, TimeUnit.SECONDS);
+            }
+            assertThat(total).isEqualTo(BURST);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
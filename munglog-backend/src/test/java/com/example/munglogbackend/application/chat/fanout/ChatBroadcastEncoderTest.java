@@ -0,0 +1,83 @@
+package com.example.munglogbackend.application.chat.fanout;
+
+import com.example.munglogbackend.application.chat.dto.ChatRoomSummary;
+import com.example.munglogbackend.domain.chat.enumerate.ChatRoomType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatBroadcastEncoderTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CBORMapper cborMapper = new CBORMapper();
+    private final ChatBroadcastEncoder encoder = new ChatBroadcastEncoder(objectMapper);
+
+    // CBOR 정수 길이가 바뀌는 경계(23/24, 255/256, 65535/65536, 2^32-1/2^32)와 최댓값
+    static Stream<Arguments> unreadCounts() {
+        long[] counts = {0L, 1L, 23L, 24L, 255L, 256L, 65535L, 65536L, 4294967295L, 4294967296L, Long.MAX_VALUE};
+        return Arrays.stream(WireFormat.values())
+                .flatMap(format -> Arrays.stream(counts).mapToObj(count -> Arguments.of(format, count)));
+    }
+
+    @ParameterizedTest(name = "{0} unreadCount={1}")
+    @MethodSource("unreadCounts")
+    @DisplayName("템플릿에 끼워 넣은 unreadCount가 Jackson으로 그대로 읽힌다")
+    void renderRoundTrip(WireFormat format, long unreadCount) throws IOException {
+        ChatRoomSummary summary = new ChatRoomSummary(42L, 0L, ChatRoomType.GROUP, "안녕하세요", 1_700_000_000_000L);
+        RoomSummaryTemplate template = encoder.summaryTemplate(format, summary);
+
+        ChatRoomSummary decoded = decode(format, template.render(unreadCount));
+
+        assertThat(decoded).isEqualTo(new ChatRoomSummary(42L, unreadCount, ChatRoomType.GROUP, "안녕하세요",
+                1_700_000_000_000L));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @EnumSource(WireFormat.class)
+    @DisplayName("템플릿 렌더링 결과는 같은 요약을 직접 직렬화한 결과와 같다")
+    void renderMatchesDirectEncoding(WireFormat format) {
+        ChatRoomSummary summary = new ChatRoomSummary(7L, 0L, ChatRoomType.PRIVATE, "hi", 1_700_000_000_000L);
+        RoomSummaryTemplate template = encoder.summaryTemplate(format, summary);
+
+        for (long unreadCount : new long[]{0L, 24L, 65536L, Long.MAX_VALUE}) {
+            ChatRoomSummary expected = new ChatRoomSummary(7L, unreadCount, ChatRoomType.PRIVATE, "hi",
+                    1_700_000_000_000L);
+            assertThat(template.render(unreadCount)).isEqualTo(encoder.encode(format, expected));
+        }
+    }
+
+    @ParameterizedTest(name = "preview={0}")
+    @ValueSource(strings = {
+            "\"unreadCount\":",
+            "\"unreadCount\":-9223372036854775808",
+            "{\"unreadCount\":3}",
+            "kunreadCount;"
+    })
+    @DisplayName("미리보기에 unreadCount 필드처럼 보이는 문자열이 있어도 실제 필드만 바뀐다")
+    void previewContainingUnreadToken(String preview) throws IOException {
+        for (WireFormat format : WireFormat.values()) {
+            ChatRoomSummary summary = new ChatRoomSummary(1L, 0L, ChatRoomType.GROUP, preview, null);
+            RoomSummaryTemplate template = encoder.summaryTemplate(format, summary);
+
+            ChatRoomSummary decoded = decode(format, template.render(5L));
+
+            assertThat(decoded.unreadCount()).isEqualTo(5L);
+            assertThat(decoded.lastMessagePreview()).isEqualTo(preview);
+        }
+    }
+
+    private ChatRoomSummary decode(WireFormat format, byte[] body) throws IOException {
+        ObjectMapper mapper = format == WireFormat.CBOR ? cborMapper : objectMapper;
+        return mapper.readValue(body, ChatRoomSummary.class);
+    }
+}
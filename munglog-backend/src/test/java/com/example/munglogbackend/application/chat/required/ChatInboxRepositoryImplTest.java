@@ -0,0 +1,126 @@
+package com.example.munglogbackend.application.chat.required;
+
+import com.example.munglogbackend.application.chat.dto.ChatInboxCursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatInboxRepositoryImplTest {
+    private static final int PAGE_SIZE = 20;
+
+    @Test
+    @DisplayName("커서와 같은 score인 방이 count + 32개를 넘어도 모든 방이 한 번씩 나온다")
+    void pagesThroughManyTiedRooms() {
+        // 마지막 메시지가 없는 방은 모두 score 0으로 만들어진다.
+        List<TypedTuple<String>> inbox = new ArrayList<>();
+        for (long roomId = 1; roomId <= 150; roomId++) {
+            inbox.add(new DefaultTypedTuple<>(String.valueOf(roomId), 0.0));
+        }
+
+        List<String> listed = pageAll(inbox);
+
+        assertThat(listed).hasSize(150).doesNotHaveDuplicates();
+        assertThat(listed).containsExactlyElementsOf(redisOrder(inbox));
+    }
+
+    @Test
+    @DisplayName("같은 score 묶음 뒤의 더 오래된 방까지 이어서 나온다")
+    void continuesPastTiesToOlderRooms() {
+        List<TypedTuple<String>> inbox = new ArrayList<>();
+        inbox.add(new DefaultTypedTuple<>("1", 3_000.0));
+        for (long roomId = 100; roomId < 200; roomId++) {
+            inbox.add(new DefaultTypedTuple<>(String.valueOf(roomId), 2_000.0));
+        }
+        inbox.add(new DefaultTypedTuple<>("2", 1_000.0));
+        inbox.add(new DefaultTypedTuple<>("3", 0.0));
+
+        List<String> listed = pageAll(inbox);
+
+        assertThat(listed).containsExactlyElementsOf(redisOrder(inbox));
+        assertThat(listed).endsWith("2", "3");
+    }
+
+    @Test
+    @DisplayName("커서의 방이 inbox에서 빠져도 같은 score의 나머지 방을 이어서 읽는다")
+    void cursorRoomNoLongerInInbox() {
+        List<TypedTuple<String>> inbox = new ArrayList<>();
+        for (long roomId = 100; roomId < 180; roomId++) {
+            if (roomId != 150) {
+                inbox.add(new DefaultTypedTuple<>(String.valueOf(roomId), 5.0));
+            }
+        }
+
+        List<TypedTuple<String>> page = ChatInboxRepositoryImpl.pageAfter(
+                new ChatInboxCursor(5L, 150L), PAGE_SIZE, reader(inbox, new AtomicInteger()));
+
+        assertThat(page).extracting(TypedTuple::getValue)
+                .containsExactlyElementsOf(redisOrder(inbox).stream()
+                        .filter(member -> member.compareTo("150") < 0)
+                        .limit(PAGE_SIZE)
+                        .toList());
+    }
+
+    @Test
+    @DisplayName("같은 score가 적으면 창 하나로 끝난다")
+    void singleWindowWithoutTies() {
+        List<TypedTuple<String>> inbox = new ArrayList<>();
+        for (long roomId = 1; roomId <= 100; roomId++) {
+            inbox.add(new DefaultTypedTuple<>(String.valueOf(roomId), (double) roomId));
+        }
+        AtomicInteger reads = new AtomicInteger();
+
+        List<TypedTuple<String>> page = ChatInboxRepositoryImpl.pageAfter(
+                new ChatInboxCursor(80L, 80L), PAGE_SIZE, reader(inbox, reads));
+
+        assertThat(page).extracting(TypedTuple::getValue).first().isEqualTo("79");
+        assertThat(page).hasSize(PAGE_SIZE);
+        assertThat(reads).hasValue(1);
+    }
+
+    private static List<String> pageAll(List<TypedTuple<String>> inbox) {
+        ChatInboxRepositoryImpl.ScoreWindowReader reader = reader(inbox, new AtomicInteger());
+        List<String> listed = new ArrayList<>();
+        ChatInboxCursor cursor = null;
+        while (true) {
+            List<TypedTuple<String>> page = ChatInboxRepositoryImpl.pageAfter(cursor, PAGE_SIZE, reader);
+            page.forEach(tuple -> listed.add(tuple.getValue()));
+            if (page.size() < PAGE_SIZE) {
+                return listed;
+            }
+            TypedTuple<String> last = page.get(page.size() - 1);
+            cursor = new ChatInboxCursor(last.getScore().longValue(), Long.valueOf(last.getValue()));
+        }
+    }
+
+    /**
+     * ZREVRANGEBYSCORE -inf max LIMIT offset limit 과 같은 순서(score DESC, member DESC)로 읽는 가짜 inbox
+     */
+    private static ChatInboxRepositoryImpl.ScoreWindowReader reader(List<TypedTuple<String>> inbox, AtomicInteger reads) {
+        List<TypedTuple<String>> sorted = inbox.stream().sorted(REDIS_REVERSE_ORDER).toList();
+        return (max, offset, limit) -> {
+            reads.incrementAndGet();
+            return sorted.stream()
+                    .filter(tuple -> tuple.getScore() <= max)
+                    .skip(offset)
+                    .limit(limit)
+                    .toList();
+        };
+    }
+
+    private static List<String> redisOrder(List<TypedTuple<String>> inbox) {
+        return inbox.stream().sorted(REDIS_REVERSE_ORDER).map(TypedTuple::getValue).toList();
+    }
+
+    private static final Comparator<TypedTuple<String>> REDIS_REVERSE_ORDER =
+            Comparator.comparing(TypedTuple<String>::getScore)
+                    .thenComparing(TypedTuple::getValue)
+                    .reversed();
+}
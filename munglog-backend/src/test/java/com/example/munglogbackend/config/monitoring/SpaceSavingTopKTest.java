@@ -0,0 +1,124 @@
+package com.example.munglogbackend.config.monitoring;
+
+import com.example.munglogbackend.config.monitoring.SpaceSavingTopK.Estimate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpaceSavingTopKTest {
+
+    @Test
+    @DisplayName("키 종류가 capacity 이하이면 빈도를 정확히 센다")
+    void exactWhenWithinCapacity() {
+        SpaceSavingTopK<String> topK = new SpaceSavingTopK<>(10);
+        offer(topK, "a", 5);
+        offer(topK, "b", 3);
+        offer(topK, "c", 1);
+
+        List<Estimate<String>> top = topK.drainTop(10);
+
+        assertThat(top).containsExactly(
+                new Estimate<>("a", 5, 0),
+                new Estimate<>("b", 3, 0),
+                new Estimate<>("c", 1, 0));
+    }
+
+    @Test
+    @DisplayName("상위 k개만 빈도 내림차순으로 반환한다")
+    void returnsOnlyTopK() {
+        SpaceSavingTopK<String> topK = new SpaceSavingTopK<>(10);
+        offer(topK, "a", 1);
+        offer(topK, "b", 4);
+        offer(topK, "c", 2);
+        offer(topK, "d", 3);
+
+        List<Estimate<String>> top = topK.drainTop(2);
+
+        assertThat(top).extracting(Estimate::key).containsExactly("b", "d");
+    }
+
+    @Test
+    @DisplayName("drainTop 이후에는 카운터가 비워진다")
+    void drainClearsCounters() {
+        SpaceSavingTopK<String> topK = new SpaceSavingTopK<>(4);
+        offer(topK, "a", 3);
+        topK.drainTop(4);
+
+        offer(topK, "b", 1);
+
+        assertThat(topK.drainTop(4)).containsExactly(new Estimate<>("b", 1, 0));
+    }
+
+    @Test
+    @DisplayName("capacity가 가득 차면 가장 작은 카운터를 새 키가 물려받는다")
+    void replacesMinimumCounter() {
+        SpaceSavingTopK<String> topK = new SpaceSavingTopK<>(2);
+        offer(topK, "a", 5);
+        offer(topK, "b", 2);
+        topK.offer("c");
+
+        List<Estimate<String>> top = topK.drainTop(2);
+
+        assertThat(top).containsExactly(
+                new Estimate<>("a", 5, 0),
+                new Estimate<>("c", 3, 2));
+    }
+
+    @Test
+    @DisplayName("키 종류가 많아도 빈도가 높은 키는 상위에 남고 count - error ≤ 실제 빈도 ≤ count 이다")
+    void heavyHittersSurviveLongTail() {
+        int capacity = 20;
+        SpaceSavingTopK<String> topK = new SpaceSavingTopK<>(capacity);
+        Map<String, Integer> actual = new HashMap<>();
+        Random random = new Random(42);
+
+        // 상위 3개 키가 전체의 절반 이상, 나머지는 1,000종의 긴 꼬리
+        for (int i = 0; i < 20_000; i++) {
+            int r = random.nextInt(100);
+            String key;
+            if (r < 25) {
+                key = "hot-1";
+            } else if (r < 40) {
+                key = "hot-2";
+            } else if (r < 50) {
+                key = "hot-3";
+            } else {
+                key = "tail-" + random.nextInt(1_000);
+            }
+            topK.offer(key);
+            actual.merge(key, 1, Integer::sum);
+        }
+
+        List<Estimate<String>> top = topK.drainTop(capacity);
+
+        assertThat(top).hasSizeLessThanOrEqualTo(capacity);
+        assertThat(top.subList(0, 3)).extracting(Estimate::key).containsExactly("hot-1", "hot-2", "hot-3");
+        for (Estimate<String> estimate : top) {
+            int count = actual.get(estimate.key());
+            assertThat(estimate.count() - estimate.error()).isLessThanOrEqualTo(count);
+            assertThat(estimate.count()).isGreaterThanOrEqualTo(count);
+        }
+    }
+
+    @Test
+    @DisplayName("capacity가 0 이하이면 1개 카운터로 동작한다")
+    void capacityIsAtLeastOne() {
+        SpaceSavingTopK<String> topK = new SpaceSavingTopK<>(0);
+        topK.offer("a");
+        topK.offer("b");
+
+        assertThat(topK.drainTop(5)).containsExactly(new Estimate<>("b", 2, 1));
+    }
+
+    private static void offer(SpaceSavingTopK<String> topK, String key, int times) {
+        for (int i = 0; i < times; i++) {
+            topK.offer(key);
+        }
+    }
+}
@@ -41,9 +41,11 @@ export async function createGroupChatRoom(otherMemberIds) {
   });
 }
 
-// 내 채팅방 목록 조회
-export async function getMyChatRooms() {
-  return apiCall('/v1/chat/rooms/me');
+// 내 채팅방 목록 조회 (커서 페이지: { content, hasNext, nextCursor }, 다음 페이지는 nextCursor를 before로 넘긴다)
+export async function getMyChatRooms({ limit = 20, before } = {}) {
+  const queryParams = new URLSearchParams({ limit });
+  if (before) queryParams.append('before', before);
+  return apiCall(`/v1/chat/rooms/me?${queryParams.toString()}`);
 }
 
 export async function getChatParticipants(roonId) {
@@ -90,6 +92,19 @@ export async function getChatMessages(roomId, params = {}) {
   return apiCall(endpoint);
 }
 
+/**
+ * 여러 채팅방 메시지 일괄 조회 (최대 20개 채팅방)
+ * POST /v1/chat/rooms/messages/batch
+ * @param {Array<{roomId: number, beforeSeq?: number, size?: number}>} requests - 채팅방별 조회 조건
+ * @returns {Promise<{result: string, data: Array<{roomId: number, messages: Array, hasNext: boolean}>}>} 요청 순서대로 채팅방별 메시지
+ */
+export async function getChatMessagesBatch(requests) {
+  return apiCall('/v1/chat/rooms/messages/batch', {
+    method: 'POST',
+    body: JSON.stringify(requests)
+  });
+}
+
 /**
  * 읽지 않은 메시지 수 조회
  * GET /v1/chat/rooms/{roomId}/unread-count
@@ -7,6 +7,8 @@ import { getUserId, getAccessToken } from '../utils/auth';
 import { getChatParticipants } from '../api/chatApi';
 
 const API_BASE_URL = process.env.REACT_APP_API_BASE_URL || 'http://localhost:8080';
+// 채팅방 목록 한 페이지 크기 (/v1/chat/rooms/me의 limit)
+const ROOM_PAGE_SIZE = 50;
 
 export default function Chat() {
   const navigate = useNavigate();
@@ -236,24 +238,27 @@ export default function Chat() {
 
     try {
       setLoading(true);
-      const response = await fetch(`${API_BASE_URL}/v1/chat/rooms/me`, {
-        headers: { 'Authorization': `Bearer ${accessToken}` }
-      });
 
-      if (!response.ok) {
-        throw new Error('채팅방 목록 로드 실패');
-      }
+      // /rooms/me는 커서 페이지({ content, hasNext, nextCursor })로 응답하므로 nextCursor를 before로 넘겨 끝까지 읽는다.
+      const roomList = [];
+      let before = null;
+      do {
+        const params = new URLSearchParams({ limit: ROOM_PAGE_SIZE });
+        if (before) params.append('before', before);
 
-      const responseData = await response.json();
-      let roomList = [];
-      
-      if (Array.isArray(responseData)) {
-        roomList = responseData;
-      } else if (Array.isArray(responseData.data)) {
-        roomList = responseData.data;
-      } else if (Array.isArray(responseData.result)) {
-        roomList = responseData.result;
-      }
+        const response = await fetch(`${API_BASE_URL}/v1/chat/rooms/me?${params.toString()}`, {
+          headers: { 'Authorization': `Bearer ${accessToken}` }
+        });
+
+        if (!response.ok) {
+          throw new Error('채팅방 목록 로드 실패');
+        }
+
+        const responseData = await response.json();
+        const page = responseData.data || {};
+        roomList.push(...(Array.isArray(page.content) ? page.content : []));
+        before = page.hasNext ? page.nextCursor : null;
+      } while (before);
 
       // 각 채팅방의 참가자 정보를 가져와서 이름 설정
       const roomsWithNames = await Promise.all(
@@ -293,7 +298,7 @@ export default function Chat() {
 
               return {
                 roomId: r.roomId,
-                type: r.type,
+                type: r.chatRoomType ?? r.type,
                 lastMessagePreview: r.lastMessagePreview ?? r.preview ?? '',
                 unreadCount: r.unreadCount ?? r.unread ?? 0,
                 lastMessageAt: r.lastMessageAt,
@@ -309,7 +314,7 @@ export default function Chat() {
           // 실패 시 기본값 사용
           return {
             roomId: r.roomId,
-            type: r.type,
+            type: r.chatRoomType ?? r.type,
             lastMessagePreview: r.lastMessagePreview ?? r.preview ?? '',
             unreadCount: r.unreadCount ?? r.unread ?? 0,
             lastMessageAt: r.lastMessageAt,